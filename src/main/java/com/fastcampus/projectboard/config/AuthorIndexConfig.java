@@ -0,0 +1,33 @@
+package com.fastcampus.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class AuthorIndexConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.author-index")
+    public static class AuthorIndexProperties {
+        /**
+         * 작성자 검색에 메모리 색인을 쓸지 여부
+         */
+        private final boolean enabled;
+
+        /**
+         * 색인으로 찾은 회원이 이보다 많으면, IN 목록이 너무 길어지므로 기존 조인 검색을 쓴다.
+         */
+        private final int maxUserIds;
+
+        /**
+         * 회원 정보를 다시 읽어서 색인을 새로 만드는 주기
+         */
+        private final Duration refreshInterval;
+    }
+
+}
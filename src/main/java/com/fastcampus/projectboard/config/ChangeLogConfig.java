@@ -0,0 +1,43 @@
+package com.fastcampus.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ChangeLogConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.change-log")
+    public static class ChangeLogProperties {
+        /**
+         * 변경 기록을 남기고 다른 서버의 변경을 따라 읽을지 여부. 서버가 한 대면 꺼도 된다.
+         */
+        private final boolean enabled;
+
+        /**
+         * 변경 기록을 읽는 주기
+         */
+        private final Duration pollInterval;
+
+        /**
+         * 한 번에 읽을 최대 변경 기록 수
+         */
+        private final int batchSize;
+
+        /**
+         * 건너뛴 ID 를 기다릴 시간. 늦게 커밋된 트랜잭션의 기록을 놓치지 않기 위해 기다리고, 지나면 롤백된 것으로 본다.
+         */
+        private final Duration gapTimeout;
+
+        /**
+         * 변경 기록을 보관할 기간. 이 주기로 오래된 기록을 지운다.
+         */
+        private final Duration retention;
+    }
+
+}
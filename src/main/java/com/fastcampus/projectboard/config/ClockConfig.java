@@ -0,0 +1,20 @@
+package com.fastcampus.projectboard.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * 시간에 따라 동작이 달라지는 컴포넌트(인기 순위 집계, 삭제 글 정리 등)가 함께 쓰는 시계.
+ * 테스트에서는 고정된 시계를 직접 넣어 쓴다.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
+}
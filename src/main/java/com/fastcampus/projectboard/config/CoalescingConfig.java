@@ -0,0 +1,28 @@
+package com.fastcampus.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CoalescingConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.coalescing")
+    public static class CoalescingProperties {
+        /**
+         * 같은 게시글, 같은 목록을 동시에 조회하는 요청을 하나로 합칠지 여부
+         */
+        private final boolean enabled;
+
+        /**
+         * 먼저 시작된 조회를 기다릴 최대 시간. 지나면 직접 조회한다.
+         */
+        private final Duration timeout;
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.fastcampus.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Configuration
+public class CommentIngestionConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.comment-ingestion")
+    public static class CommentIngestionProperties {
+        /**
+         * 댓글을 바로 저장하지 않고 큐에 모았다가 묶어서 저장할지 여부
+         */
+        private final boolean writeBehind;
+
+        /**
+         * 저장을 기다릴 수 있는 최대 댓글 수. 가득 차면 요청이 잠시 기다리고, 그래도 자리가 없으면 거절한다.
+         */
+        private final int queueCapacity;
+
+        /**
+         * 트랜잭션 하나로 묶어서 저장할 최대 댓글 수
+         */
+        private final int batchSize;
+
+        /**
+         * 큐가 비어 있을 때 다음 댓글을 기다리는 시간
+         */
+        private final Duration pollInterval;
+
+        /**
+         * 큐가 가득 찼을 때 요청이 자리를 기다리는 최대 시간
+         */
+        private final Duration enqueueTimeout;
+
+        /**
+         * 아직 저장하지 않은 댓글을 기록해 두는 로그 디렉토리
+         */
+        private final String journalDirectory;
+
+        /**
+         * 댓글을 로그에 쓸 때마다 디스크에 동기화할지 여부. 끄면 빠르지만, 장비가 죽으면 마지막 몇 건을 잃을 수 있다.
+         */
+        private final boolean syncOnWrite;
+
+        /**
+         * 댓글 로그가 이 크기를 넘으면 이미 저장된 댓글을 걸러 내서 줄인다.
+         */
+        private final DataSize journalCompactThreshold;
+    }
+
+}
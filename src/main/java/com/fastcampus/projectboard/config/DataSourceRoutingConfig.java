@@ -0,0 +1,64 @@
+package com.fastcampus.projectboard.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+/**
+ * {@code board.datasource.replica.url} 이 설정되어 있으면, 읽기 전용 트랜잭션을 복제본으로 보낸다.
+ *
+ * <p>
+ * 원본 커넥션 풀은 {@code spring.datasource.*}, 복제본 커넥션 풀은 {@code board.datasource.replica.*} 설정을 쓴다.
+ * 풀 이름이 각각 {@code primary}, {@code replica} 이므로 {@code hikaricp.connections.*} 지표를 {@code pool} 태그로 나눠 볼 수 있다.
+ */
+@ConditionalOnProperty(prefix = "board.datasource.replica", name = "url")
+@Configuration
+public class DataSourceRoutingConfig {
+
+    @Primary
+    @Bean
+    public ReadWriteRoutingDataSource dataSource(
+            DataSourceProperties dataSourceProperties,
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) throws Exception {
+        Binder binder = Binder.get(environment);
+
+        DataSourceProperties replicaProperties = binder.bind("board.datasource.replica", DataSourceProperties.class)
+                .orElseThrow(() -> new IllegalStateException("복제본 데이터 소스 설정이 없습니다."));
+        replicaProperties.afterPropertiesSet();
+
+        HikariDataSource primary = createPool("primary", dataSourceProperties, binder, "spring.datasource.hikari", meterRegistry);
+        HikariDataSource replica = createPool("replica", replicaProperties, binder, "board.datasource.replica.hikari", meterRegistry);
+
+        return new ReadWriteRoutingDataSource(primary, replica);
+    }
+
+
+    private static HikariDataSource createPool(
+            String poolName,
+            DataSourceProperties properties,
+            Binder binder,
+            String hikariPrefix,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(poolName);
+        binder.bind(hikariPrefix, Bindable.ofInstance(dataSource));
+        meterRegistry.ifAvailable(registry -> dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+
+        return dataSource;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.dto.ArticleFragmentsDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FragmentCacheConfig {
+
+    @Bean
+    public Cache<Long, ArticleFragmentsDto> articleFragmentCache(FragmentCacheProperties fragmentCacheProperties) {
+        return Caffeine.newBuilder()
+                .maximumSize(fragmentCacheProperties.getMaximumSize())
+                .build();
+    }
+
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.fragment-cache")
+    public static class FragmentCacheProperties {
+        /**
+         * 렌더링된 게시글 화면 조각을 보관할 최대 게시글 수
+         */
+        private final long maximumSize;
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.fastcampus.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FullTextSearchConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.full-text-search")
+    public static class FullTextSearchProperties {
+        /**
+         * 제목/본문 검색에 DB 전문 검색 인덱스를 쓸지 여부. 지원하지 않는 DB 에서는 LIKE 검색을 쓴다.
+         */
+        private final boolean enabled;
+
+        /**
+         * 검색 결과를 관련도 순으로 먼저 정렬할지 여부. 끄면 작성일 내림차순이다.
+         */
+        private final boolean relevanceOrder;
+    }
+
+}
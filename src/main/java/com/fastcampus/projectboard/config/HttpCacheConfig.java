@@ -0,0 +1,20 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.filter.ArticleApiConditionalRequestFilter;
+import com.fastcampus.projectboard.service.ArticleService;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HttpCacheConfig {
+
+    @Bean
+    public FilterRegistrationBean<ArticleApiConditionalRequestFilter> articleApiConditionalRequestFilter(ArticleService articleService) {
+        FilterRegistrationBean<ArticleApiConditionalRequestFilter> registration = new FilterRegistrationBean<>(new ArticleApiConditionalRequestFilter(articleService));
+        registration.addUrlPatterns("/api/articles/*");
+
+        return registration;
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.filter.ArticleIndexSnapshotFilter;
+import com.fastcampus.projectboard.service.ArticleIndexSnapshotService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class IndexSnapshotConfig {
+
+    /**
+     * 로그인 여부를 알아야 하므로 스프링 시큐리티 필터 뒤에서 동작한다.
+     */
+    @Bean
+    public FilterRegistrationBean<ArticleIndexSnapshotFilter> articleIndexSnapshotFilter(ArticleIndexSnapshotService articleIndexSnapshotService) {
+        FilterRegistrationBean<ArticleIndexSnapshotFilter> registration = new FilterRegistrationBean<>(
+                new ArticleIndexSnapshotFilter(articleIndexSnapshotService)
+        );
+        registration.addUrlPatterns("/articles");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+
+        return registration;
+    }
+
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.index-snapshot")
+    public static class IndexSnapshotProperties {
+        /**
+         * 비로그인 사용자에게 미리 렌더링해 둔 게시글 목록을 보여줄지 여부
+         */
+        private final boolean enabled;
+
+        /**
+         * 미리 렌더링할 앞쪽 페이지 수
+         */
+        private final int pages;
+
+        /**
+         * 게시글 목록을 미리 렌더링할 인기 해시태그 수
+         */
+        private final int hashtags;
+
+        /**
+         * 게시글이 바뀐 뒤 다시 렌더링하기까지 기다리는 시간. 이 사이에 들어온 변경은 한 번의 렌더링으로 합친다.
+         */
+        private final Duration debounce;
+
+        /**
+         * 게시글 변경이 없어도 다시 렌더링하는 주기. 인기 게시글/해시태그 목록을 반영하기 위함이다.
+         */
+        private final Duration refreshInterval;
+    }
+
+}
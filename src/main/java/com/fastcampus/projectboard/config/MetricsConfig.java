@@ -0,0 +1,20 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.monitoring.SearchTypeTagsProvider;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * {@code @Timed} 가 붙은 서비스, 컨트롤러의 public 메서드를 측정한다. ({@code board.service}, {@code board.controller})
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry, new SearchTypeTagsProvider());
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.fastcampus.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class OutboxConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.outbox")
+    public static class OutboxProperties {
+        /**
+         * 도메인 이벤트를 아웃박스에 남기고 별도 스레드에서 전달할지 여부. 끄면 커밋 직후 요청 스레드에서 바로 전달한다.
+         */
+        private final boolean enabled;
+
+        /**
+         * 이벤트를 전달할 스레드 수
+         */
+        private final int threads;
+
+        /**
+         * 전달을 기다릴 수 있는 최대 이벤트 수. 넘치면 아웃박스에 남겨 두었다가 다음 재전송 때 보낸다.
+         */
+        private final int queueCapacity;
+
+        /**
+         * 한 서버가 이벤트를 가져가서 전달을 마칠 때까지 잡아 두는 시간. 지나도록 전달되지 않으면 다른 서버가 다시 보낸다.
+         */
+        private final Duration lease;
+
+        /**
+         * 전달되지 않은 이벤트를 찾아서 다시 보내는 주기
+         */
+        private final Duration relayInterval;
+
+        /**
+         * 한 번에 다시 보낼 최대 이벤트 수
+         */
+        private final int relayBatchSize;
+
+        /**
+         * 첫 재시도까지 기다릴 시간. 실패할 때마다 두 배로 늘어난다.
+         */
+        private final Duration retryBackoff;
+
+        /**
+         * 최대 전달 시도 횟수. 이만큼 실패한 이벤트는 오류 로그를 남기고 더 보내지 않는다.
+         */
+        private final int maxAttempts;
+
+        /**
+         * 전달을 마친 이벤트를 보관할 기간. 이 주기로 오래된 이벤트를 지운다.
+         */
+        private final Duration retention;
+
+        /**
+         * 끝내 전달하지 못한 이벤트(최대 시도 횟수를 넘겼거나, 만든 서버가 내려간 이벤트)를 원인을 살펴볼 수 있게 보관할 기간.
+         * 생긴 지 이 기간이 지나도록 전달되지 않은 이벤트는 지운다.
+         */
+        private final Duration deadLetterRetention;
+    }
+
+}
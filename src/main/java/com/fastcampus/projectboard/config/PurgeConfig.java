@@ -0,0 +1,54 @@
+package com.fastcampus.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+@Configuration
+public class PurgeConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.purge")
+    public static class PurgeProperties {
+        /**
+         * 삭제 표시된 게시글, 댓글을 주기적으로 실제로 지울지 여부
+         */
+        private final boolean enabled;
+
+        /**
+         * 한 묶음을 지우고 다음 묶음을 지우기까지의 간격. 짧을수록 빨리 지우지만 DB 에 부담을 준다.
+         */
+        private final Duration batchInterval;
+
+        /**
+         * 한 번에 지울 최대 게시글 수, 댓글 수
+         */
+        private final int batchSize;
+
+        /**
+         * 삭제 표시한 뒤 실제로 지우기까지 남겨 둘 기간
+         */
+        private final Duration retention;
+
+        /**
+         * 지워도 되는 시간대의 시작 시각. 끝 시각보다 늦으면 자정을 넘기는 시간대로 본다. 두 시각이 같으면 하루 종일 지운다.
+         */
+        private final LocalTime windowStart;
+
+        /**
+         * 지워도 되는 시간대의 끝 시각
+         */
+        private final LocalTime windowEnd;
+
+        /**
+         * 주 DB 커넥션 풀에서 이보다 많은 커넥션이 쓰이고 있으면, 요청이 몰린 것으로 보고 이번 묶음을 건너뛴다.
+         */
+        private final int maxActiveConnections;
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.fastcampus.projectboard.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본(replica)으로, 나머지는 원본(primary)으로 보내는 데이터 소스.
+ *
+ * <p>
+ * 트랜잭션 매니저는 트랜잭션을 시작할 때 커넥션을 먼저 가져가고, 읽기 전용 여부는 그 뒤에 동기화 정보로 등록된다.
+ * 그래서 {@link LazyConnectionDataSourceProxy} 로 실제 커넥션을 첫 SQL 실행 때까지 미뤄서, 그 시점의 트랜잭션 속성으로 데이터 소스를 고른다.
+ *
+ * <p>
+ * 원본과 복제본 커넥션 풀은 이 데이터 소스만 들고 있으므로, 빈이 소멸될 때 두 풀을 모두 닫는다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable, DisposableBean {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        super(new Router(primary, replica));
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    @Override
+    public void destroy() {
+        close();
+    }
+
+    /**
+     * 원본과 복제본 커넥션 풀을 닫는다. 한쪽을 닫다 실패해도 다른 쪽은 닫는다.
+     */
+    @Override
+    public void close() {
+        closePool(Route.REPLICA, replica);
+        closePool(Route.PRIMARY, primary);
+    }
+
+
+    private static void closePool(Route route, DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("{} 커넥션 풀 종료 실패 - {}", route, e.getLocalizedMessage());
+            }
+        }
+    }
+
+    private static class Router extends AbstractRoutingDataSource {
+
+        Router(DataSource primary, DataSource replica) {
+            setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+            setDefaultTargetDataSource(primary);
+            afterPropertiesSet();
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return TransactionSynchronizationManager.isActualTransactionActive()
+                    && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                    ? Route.REPLICA
+                    : Route.PRIMARY;
+        }
+
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.service.ArticleSearchCacheService.SearchKey;
+import com.fastcampus.projectboard.service.ArticleSearchCacheService.SearchResult;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class SearchCacheConfig {
+
+    /**
+     * 해시태그 검색 결과는 글이 바뀔 때 태그 단위로 지우므로 오래 두고, 그 밖의 검색 결과는 짧게 두었다가 만료시킨다.
+     */
+    @Bean
+    public Cache<SearchKey, SearchResult> articleSearchCache(SearchCacheProperties searchCacheProperties, MeterRegistry meterRegistry) {
+        Cache<SearchKey, SearchResult> cache = Caffeine.newBuilder()
+                .maximumSize(searchCacheProperties.getMaximumSize())
+                .expireAfter(Expiry.creating((SearchKey key, SearchResult result) ->
+                        key.isHashtagSearch() ? searchCacheProperties.getHashtagTtl() : searchCacheProperties.getTextTtl()
+                ))
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "articleSearch");
+    }
+
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.search-cache")
+    public static class SearchCacheProperties {
+        /**
+         * 검색 결과 캐시 사용 여부
+         */
+        private final boolean enabled;
+
+        /**
+         * 보관할 최대 검색 결과(검색 조건 + 페이지) 수
+         */
+        private final long maximumSize;
+
+        /**
+         * 제목, 본문, 작성자, 검색식 검색 결과를 보관할 시간
+         */
+        private final Duration textTtl;
+
+        /**
+         * 해시태그 검색 결과를 보관할 시간. 글 작성, 수정, 삭제 때 바로 지우지만, 그 밖의 경로로 바뀐 경우를 대비한 상한이다.
+         */
+        private final Duration hashtagTtl;
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.fastcampus.projectboard.config;
+
+import com.fastcampus.projectboard.monitoring.RepositoryMethodTrackingPostProcessor;
+import com.fastcampus.projectboard.monitoring.SlowQueryEndpoint;
+import com.fastcampus.projectboard.monitoring.SlowQueryLogger;
+import com.fastcampus.projectboard.monitoring.SlowQueryRecorder;
+import com.fastcampus.projectboard.monitoring.SqlExecutionListener;
+import com.fastcampus.projectboard.monitoring.SqlStatisticsAspect;
+import com.fastcampus.projectboard.monitoring.SqlStatisticsDataSource;
+import com.fastcampus.projectboard.monitoring.SqlStatisticsDataSourcePostProcessor;
+import com.fastcampus.projectboard.monitoring.SqlStatisticsFilter;
+import com.fastcampus.projectboard.monitoring.SqlStatisticsMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@ConditionalOnProperty(prefix = "board.sql-statistics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Configuration
+public class SqlMonitoringConfig {
+
+    @Bean
+    public static SqlStatisticsDataSourcePostProcessor sqlStatisticsDataSourcePostProcessor(ObjectProvider<SqlExecutionListener> sqlExecutionListeners) {
+        return new SqlStatisticsDataSourcePostProcessor(sqlExecutionListeners);
+    }
+
+    @Bean
+    public static RepositoryMethodTrackingPostProcessor repositoryMethodTrackingPostProcessor() {
+        return new RepositoryMethodTrackingPostProcessor();
+    }
+
+    @Bean
+    public SlowQueryRecorder slowQueryRecorder(
+            SqlStatisticsProperties sqlStatisticsProperties,
+            ObjectProvider<DataSource> dataSource
+    ) {
+        return new SlowQueryRecorder(
+                sqlStatisticsProperties.getSlowQueryThreshold(),
+                sqlStatisticsProperties.getSlowQueryCapacity(),
+                sqlStatisticsProperties.isSlowQueryExplain() ? () -> unwrap(dataSource.getObject()) : null
+        );
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryRecorder slowQueryRecorder) {
+        return new SlowQueryEndpoint(slowQueryRecorder);
+    }
+
+    @Bean
+    public SlowQueryLogger slowQueryLogger(SqlStatisticsProperties sqlStatisticsProperties) {
+        return new SlowQueryLogger(sqlStatisticsProperties.getSlowQueryThreshold(), sqlStatisticsProperties.getSlowQuerySampleRate());
+    }
+
+    @Bean
+    public SqlStatisticsMetrics sqlStatisticsMetrics(MeterRegistry meterRegistry) {
+        return new SqlStatisticsMetrics(meterRegistry);
+    }
+
+    @Bean
+    public SqlStatisticsAspect sqlStatisticsAspect(SqlStatisticsMetrics sqlStatisticsMetrics) {
+        return new SqlStatisticsAspect(sqlStatisticsMetrics);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatisticsFilter> sqlStatisticsFilter(
+            SqlStatisticsMetrics sqlStatisticsMetrics,
+            SqlStatisticsProperties sqlStatisticsProperties
+    ) {
+        FilterRegistrationBean<SqlStatisticsFilter> registration = new FilterRegistrationBean<>(
+                new SqlStatisticsFilter(sqlStatisticsMetrics, sqlStatisticsProperties.getStatementBudget())
+        );
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+
+        return registration;
+    }
+
+
+    private static DataSource unwrap(DataSource dataSource) {
+        return dataSource instanceof SqlStatisticsDataSource sqlStatisticsDataSource
+                ? sqlStatisticsDataSource.getTargetDataSource()
+                : dataSource;
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.sql-statistics")
+    public static class SqlStatisticsProperties {
+        /**
+         * SQL 통계 수집 여부
+         */
+        private final boolean enabled;
+
+        /**
+         * 요청 하나에 허용하는 SQL 실행 횟수. 넘으면 경고 로그를 남긴다.
+         */
+        private final int statementBudget;
+
+        /**
+         * 이 시간보다 오래 걸린 SQL 을 느린 쿼리로 본다.
+         */
+        private final Duration slowQueryThreshold;
+
+        /**
+         * 느린 쿼리 중 로그로 남길 비율 (0.0 ~ 1.0)
+         */
+        private final double slowQuerySampleRate;
+
+        /**
+         * 느린 쿼리를 최근 몇 건까지 보관할지. 0 이면 보관하지 않는다.
+         */
+        private final int slowQueryCapacity;
+
+        /**
+         * 느린 SELECT 문의 실행 계획(EXPLAIN)을 수집할지 여부
+         */
+        private final boolean slowQueryExplain;
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.fastcampus.projectboard.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.TemplateSpec;
+import org.thymeleaf.context.Context;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 배포 직후 첫 요청이 템플릿 파싱 비용을 떠안지 않도록, 애플리케이션이 트래픽을 받기 전에 템플릿을 미리 준비한다.
+ *
+ * <p>
+ * 디커플드 로직({@code *.th.xml})은 템플릿을 파싱할 때 마크업에 합쳐지고, 합쳐진 결과가 템플릿 캐시에 저장된다.
+ * 그래서 기동 시점에 한 번씩 파싱해 두면 이후 요청은 {@code .th.xml} 파일을 다시 찾거나 읽지 않는다.
+ * <ol>
+ *     <li>지정한 템플릿을 빈 컨텍스트로 처리해서 파싱 결과를 캐시에 올린다. 웹 컨텍스트가 필요한 표현식에서 처리가 실패해도 파싱 결과는 이미 캐시에 들어가 있다.</li>
+ *     <li>로그인이 필요 없는 공개 페이지는 실제로 요청해서 헤더, 푸터 조각과 표현식, 쿼리 경로까지 한 번 거치게 한다.</li>
+ * </ol>
+ * 템플릿 캐시를 끈 개발 환경에서는 아무 것도 하지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TemplateWarmupRunner implements ApplicationRunner {
+
+    private static final String FRAGMENT_SEPARATOR = "::";
+
+    private final ITemplateEngine templateEngine;
+    private final ThymeleafProperties thymeleafProperties;
+    private final ThymeleafConfig.Thymeleaf3Properties thymeleaf3Properties;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!thymeleafProperties.isCache()) {
+            log.debug("템플릿 캐시가 꺼져 있어 워밍업을 건너뜁니다.");
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        List<String> templates = Objects.requireNonNullElse(thymeleaf3Properties.getWarmupTemplates(), List.of());
+        List<String> paths = Objects.requireNonNullElse(thymeleaf3Properties.getWarmupPaths(), List.of());
+
+        templates.forEach(this::parseTemplate);
+        int port = localServerPort();
+        if (port > 0) {
+            paths.forEach(path -> requestPage(port, path));
+        }
+
+        log.info("템플릿 워밍업 완료 - 템플릿 {}개, 페이지 {}개, {}ms",
+                templates.size(), port > 0 ? paths.size() : 0, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+    }
+
+
+    private void parseTemplate(String templateName) {
+        String[] parts = templateName.split(FRAGMENT_SEPARATOR, 2);
+        String template = parts[0].strip();
+        Set<String> templateSelectors = parts.length > 1 ? Set.of(parts[1].strip()) : null;
+
+        try {
+            templateEngine.process(new TemplateSpec(template, templateSelectors, null, null), new Context(), Writer.nullWriter());
+        } catch (RuntimeException e) {
+            log.debug("템플릿 워밍업 중 처리 실패. 파싱 결과는 캐시되었습니다 - template: {}, {}", templateName, e.getLocalizedMessage());
+        }
+    }
+
+    private void requestPage(int port, String path) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+
+        try {
+            HttpResponse<Void> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.discarding());
+            log.debug("페이지 워밍업 - path: {}, status: {}", path, response.statusCode());
+        } catch (IOException e) {
+            log.warn("페이지 워밍업 실패 - path: {}, {}", path, e.getLocalizedMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int localServerPort() {
+        if (applicationContext instanceof WebServerApplicationContext webServerApplicationContext
+                && webServerApplicationContext.getWebServer() != null) {
+            return webServerApplicationContext.getWebServer().getPort();
+        }
+
+        return -1;
+    }
+
+}
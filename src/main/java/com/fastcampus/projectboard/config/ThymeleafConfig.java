@@ -2,10 +2,16 @@ package com.fastcampus.projectboard.config;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.thymeleaf.ITemplateEngine;
 import org.thymeleaf.spring6.templateresolver.SpringResourceTemplateResolver;
+
+import java.util.List;
+
 @Configuration
 public class ThymeleafConfig {
 
@@ -19,6 +25,16 @@ public class ThymeleafConfig {
         return defaultTemplateResolver;
     }
 
+    @Bean
+    public TemplateWarmupRunner templateWarmupRunner(
+            ITemplateEngine templateEngine,
+            ThymeleafProperties thymeleafProperties,
+            Thymeleaf3Properties thymeleaf3Properties,
+            ApplicationContext applicationContext
+    ) {
+        return new TemplateWarmupRunner(templateEngine, thymeleafProperties, thymeleaf3Properties, applicationContext);
+    }
+
 
     @RequiredArgsConstructor
     @Getter
@@ -28,6 +44,16 @@ public class ThymeleafConfig {
          * Use Thymeleaf 3 Decoupled Logic
          */
         private final boolean decoupledLogic;
+
+        /**
+         * 기동할 때 미리 파싱해서 템플릿 캐시에 올려 둘 템플릿 목록. {@code 템플릿 :: 선택자} 형식으로 조각도 지정할 수 있다.
+         */
+        private final List<String> warmupTemplates;
+
+        /**
+         * 기동할 때 직접 요청해서 한 번씩 렌더링해 둘 공개 페이지 경로 목록
+         */
+        private final List<String> warmupPaths;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package com.fastcampus.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class TrendingConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.trending")
+    public static class TrendingProperties {
+        /**
+         * 인기 순위를 집계할 기간
+         */
+        private final Duration window;
+
+        /**
+         * 집계 기간을 나눌 시간 버킷 수
+         */
+        private final int bucketCount;
+
+        /**
+         * 버킷 하나에 담을 최대 게시글/해시태그 수
+         */
+        private final int maxKeysPerBucket;
+
+        /**
+         * 보여줄 인기 게시글/해시태그 수
+         */
+        private final int topK;
+    }
+
+}
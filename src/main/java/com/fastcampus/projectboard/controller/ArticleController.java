@@ -2,31 +2,54 @@ package com.fastcampus.projectboard.controller;
 
 import com.fastcampus.projectboard.domain.constant.FormStatus;
 import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleFragmentsDto;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
 import com.fastcampus.projectboard.dto.request.ArticleRequest;
 import com.fastcampus.projectboard.dto.response.ArticleResponse;
 import com.fastcampus.projectboard.dto.response.ArticleWithCommentsResponse;
 import com.fastcampus.projectboard.dto.security.BoardPrincipal;
+import com.fastcampus.projectboard.service.ArticleFragmentService;
+import com.fastcampus.projectboard.service.ArticleLoadCoalescingService;
 import com.fastcampus.projectboard.service.ArticleService;
+import com.fastcampus.projectboard.service.ArticleViewCountService;
 import com.fastcampus.projectboard.service.PaginationService;
+import com.fastcampus.projectboard.service.TrendingService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.DeferredCsrfToken;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @RequestMapping("/articles")
+@Timed(value = "board.controller", histogram = true)
 @Controller
 public class ArticleController {
 
     private final ArticleService articleService;
+    private final ArticleLoadCoalescingService articleLoadCoalescingService;
+    private final ArticleFragmentService articleFragmentService;
+    private final ArticleViewCountService articleViewCountService;
     private final PaginationService paginationService;
+    private final TrendingService trendingService;
 
     @GetMapping
     public String articles(
@@ -35,24 +58,51 @@ public class ArticleController {
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap map
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
+        Page<ArticleResponse> articles = articleLoadCoalescingService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
 
         map.addAttribute("articles", articles);
         map.addAttribute("paginationBarNumbers", barNumbers);
         map.addAttribute("searchTypes", SearchType.values());
         map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
+        map.addAttribute("trendingArticles", trendingService.getTrendingArticles());
+        map.addAttribute("trendingHashtags", trendingService.getTrendingHashtags());
 
         return "articles/index";
     }
 
     @GetMapping("/{articleId}")
-    public String article(@PathVariable Long articleId, ModelMap map) {
-        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
+    public String article(
+            @PathVariable Long articleId,
+            ModelMap map,
+            WebRequest webRequest,
+            HttpServletResponse response
+    ) {
+        Optional<ArticleVersionDto> version = articleService.getArticleVersion(articleId);
+        if (version.isPresent()) {
+            articleViewCountService.increaseViewCount(articleId);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+            if (webRequest.checkNotModified(detailPageETag(version.get(), webRequest), version.get().lastModifiedEpochMilli())) {
+                return null;
+            }
+        }
+
+        long totalCount = articleService.getArticleCount();
+
+        String versionTag = version.map(ArticleVersionDto::versionTag).orElse(null);
+        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleLoadCoalescingService.getArticleWithComments(articleId, versionTag));
+        ArticleFragmentsDto fragments = articleFragmentService.getFragments(
+                versionTag,
+                article,
+                webRequest.getRemoteUser(),
+                (CsrfToken) webRequest.getAttribute(CsrfToken.class.getName(), RequestAttributes.SCOPE_REQUEST)
+        );
 
         map.addAttribute("article", article);
         map.addAttribute("articleComments", article.articleCommentsResponse());
-        map.addAttribute("totalCount", articleService.getArticleCount());
+        map.addAttribute("articleBodyHtml", fragments.bodyHtml());
+        map.addAttribute("articleCommentsHtml", fragments.commentsHtml());
+        map.addAttribute("totalCount", totalCount);
         map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
 
         return "articles/detail";
@@ -64,7 +114,7 @@ public class ArticleController {
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap map
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
+        Page<ArticleResponse> articles = articleLoadCoalescingService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
         List<String> hashtags = articleService.getHashtags();
 
@@ -72,6 +122,8 @@ public class ArticleController {
         map.addAttribute("hashtags", hashtags);
         map.addAttribute("paginationBarNumbers", barNumbers);
         map.addAttribute("searchType", SearchType.HASHTAG);
+        map.addAttribute("trendingArticles", trendingService.getTrendingArticles());
+        map.addAttribute("trendingHashtags", trendingService.getTrendingHashtags());
 
         return "articles/search-hashtag";
     }
@@ -124,4 +176,32 @@ public class ArticleController {
         return "redirect:/articles";
     }
 
-}
\ No newline at end of file
+
+    /**
+     * 상세 페이지는 로그인 사용자에 따라 수정/삭제 버튼이 달라지므로, 게시글 버전에 사용자를 섞어 ETag 를 만든다.
+     * 세션을 새로 만들지 않도록 세션 ID 는 쓰지 않는다. 익명 사용자와 쿠키가 없는 클라이언트도 같은 ETag 를 받는다.
+     * 로그인 사용자의 페이지에는 댓글, 삭제 폼의 CSRF 토큰이 들어 있으므로, 다시 로그인해서 토큰이 바뀌면 ETag 도 바뀌도록 토큰 해시를 섞는다.
+     */
+    private String detailPageETag(ArticleVersionDto version, WebRequest webRequest) {
+        String remoteUser = webRequest.getRemoteUser();
+        String viewerTag = Integer.toHexString(Objects.hashCode(remoteUser));
+        if (remoteUser != null) {
+            viewerTag += "-" + csrfTokenTag(webRequest);
+        }
+
+        return "W/\"" + version.versionTag() + "-" + viewerTag + "\"";
+    }
+
+    /**
+     * 페이지마다 달라지는 마스킹된 토큰이 아니라, 세션에 저장된 원래 토큰으로 해시를 만든다.
+     */
+    private static String csrfTokenTag(WebRequest webRequest) {
+        DeferredCsrfToken csrfToken = (DeferredCsrfToken) webRequest.getAttribute(DeferredCsrfToken.class.getName(), RequestAttributes.SCOPE_REQUEST);
+        if (csrfToken == null) {
+            return "";
+        }
+
+        return DigestUtils.md5DigestAsHex(csrfToken.get().getToken().getBytes(StandardCharsets.UTF_8)).substring(0, 12);
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.dto.ArticleFeedDto;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
+import com.fastcampus.projectboard.dto.ArticleViewCountDto;
+import com.fastcampus.projectboard.dto.response.ArticleResponse;
+import com.fastcampus.projectboard.service.ArticleService;
+import com.fastcampus.projectboard.service.ArticleViewCountService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+/**
+ * 모바일 클라이언트가 자주 폴링하는 읽기 전용 API.
+ *
+ * <p>
+ * 목록은 offset 대신 게시글 ID 커서로 넘기고, 응답은 한 줄에 한 건씩 NDJSON 으로 스트리밍한다.
+ * 직렬화와 전송은 요청 스레드가 아니라 MVC 비동기 실행기에서 이루어지고, 소켓 쓰기가 막히면 그만큼 기다리므로 느린 클라이언트가 메모리를 쌓아 두지 않는다.
+ * 다음 페이지 커서는 {@value #NEXT_CURSOR_HEADER} 헤더로 내려준다.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/api/feed")
+@RestController
+public class ArticleFeedApiController {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    private final ArticleService articleService;
+    private final ArticleViewCountService articleViewCountService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(value = "/articles", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> articles(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size
+    ) {
+        return feed(size, limit -> articleService.getArticleFeed(cursor, null, limit));
+    }
+
+    @GetMapping(value = "/hashtags/{hashtagName}/articles", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> hashtagArticles(
+            @PathVariable String hashtagName,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size
+    ) {
+        return feed(size, limit -> articleService.getArticleFeed(cursor, hashtagName, limit));
+    }
+
+    /**
+     * 검색식으로 게시글을 찾는다. 문법은 {@link com.fastcampus.projectboard.dto.ArticleSearchCondition} 참고.
+     */
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size
+    ) {
+        return feed(size, limit -> articleService.searchArticleFeed(q, cursor, limit));
+    }
+
+    @GetMapping("/articles/most-viewed")
+    public List<ArticleViewCountDto> mostViewedArticles(@RequestParam(defaultValue = "10") int size) {
+        return articleViewCountService.getMostViewedArticles(Math.min(Math.max(size, 1), MAX_SIZE));
+    }
+
+    @GetMapping("/articles/{articleId}")
+    public ResponseEntity<ArticleResponse> article(@PathVariable Long articleId, WebRequest webRequest) {
+        Optional<ArticleVersionDto> version = articleService.getArticleVersion(articleId);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        articleViewCountService.increaseViewCount(articleId);
+        if (webRequest.checkNotModified(version.get().articleETag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(version.get().articleETag())
+                .body(ArticleResponse.from(articleService.getArticle(articleId)));
+    }
+
+
+    /**
+     * @param fetcher 조회할 건수를 받아서 게시글 요약을 조회한다. 다음 페이지가 있는지 알기 위해 한 건 더 요청한다.
+     */
+    private ResponseEntity<StreamingResponseBody> feed(int size, IntFunction<List<ArticleFeedDto>> fetcher) {
+        int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+        List<ArticleFeedDto> articles = fetcher.apply(limit + 1);
+        boolean hasNext = articles.size() > limit;
+        List<ArticleFeedDto> page = hasNext ? articles.subList(0, limit) : articles;
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON);
+        if (hasNext) {
+            builder.header(NEXT_CURSOR_HEADER, String.valueOf(page.get(page.size() - 1).id()));
+        }
+
+        ObjectWriter writer = objectMapper.writerFor(ArticleFeedDto.class);
+        return builder.body(outputStream -> {
+            for (ArticleFeedDto article : page) {
+                outputStream.write(writer.writeValueAsBytes(article));
+                outputStream.write('\n');
+                outputStream.flush();
+            }
+        });
+    }
+
+}
@@ -1,9 +1,16 @@
 package com.fastcampus.projectboard.domain;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Objects;
@@ -12,9 +19,15 @@ import java.util.Set;
 @ToString(callSuper = true)
 @Table(indexes = {
         @Index(columnList = "title"),
+        @Index(columnList = "titleNormalized"),
+        @Index(columnList = "userId"),
         @Index(columnList = "createdAt"),
-        @Index(columnList = "createdBy")
+        @Index(columnList = "createdBy"),
+        @Index(columnList = "createdByNormalized"),
+        @Index(columnList = "deletedAt")
 })
+@SQLDelete(sql = "update article set deleted_at = current_timestamp where id = ?")
+@SQLRestriction("deleted_at is null")
 @Entity
 public class Article extends AuditingFields {
     @Id
@@ -27,9 +40,18 @@ public class Article extends AuditingFields {
     private UserAccount userAccount; // 유저 정보 (ID)
 
     @Setter @Column(nullable = false) private String title; // 제목
+    @Getter(AccessLevel.NONE) private String titleNormalized; // 소문자로 바꾼 제목. 대소문자 구분 없는 앞부분 일치 검색(API 필터)용
     @Setter @Column(nullable = false, length = 10000) private String content; // 본문
 
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long viewCount; // 조회수. 엔티티로는 쓰지 않고, ArticleViewCountService 가 모아서 일괄 반영한다.
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime deletedAt; // 삭제한 시각. 값이 있으면 모든 조회에서 빠지고, SoftDeletePurgeService 가 나중에 실제로 지운다.
+
     @ToString.Exclude
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
             name = "article_hashtag",
             joinColumns = @JoinColumn(name = "articleId"),
@@ -56,6 +78,12 @@ public class Article extends AuditingFields {
         return new Article(userAccount, title, content);
     }
 
+    @PrePersist
+    @PreUpdate
+    private void normalizeTitle() {
+        this.titleNormalized = normalize(this.title);
+    }
+
     public void addHashtag(Hashtag hashtag) {
         this.getHashtags().add(hashtag);
     }
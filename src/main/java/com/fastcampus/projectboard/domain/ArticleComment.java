@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -14,8 +17,13 @@ import java.util.Set;
 @Table(indexes = {
         @Index(columnList = "content"),
         @Index(columnList = "createdAt"),
-        @Index(columnList = "createdBy")
+        @Index(columnList = "createdBy"),
+        @Index(columnList = "createdByNormalized"),
+        @Index(columnList = "parentCommentId"),
+        @Index(columnList = "deletedAt")
 })
+@SQLDelete(sql = "update article_comment set deleted_at = current_timestamp where id = ?")
+@SQLRestriction("deleted_at is null")
 @Entity
 public class ArticleComment extends AuditingFields {
 
@@ -43,6 +51,9 @@ public class ArticleComment extends AuditingFields {
 
     @Setter @Column(nullable = false, length = 500) private String content; // 본문
 
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime deletedAt; // 삭제한 시각. 값이 있으면 모든 조회에서 빠지고, SoftDeletePurgeService 가 나중에 실제로 지운다.
+
 
     protected ArticleComment() {}
 
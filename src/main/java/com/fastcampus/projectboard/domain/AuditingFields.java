@@ -2,6 +2,8 @@ package com.fastcampus.projectboard.domain;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PrePersist;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
 import org.springframework.data.annotation.CreatedBy;
@@ -11,6 +13,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.springframework.format.annotation.DateTimeFormat;
 import java.time.LocalDateTime;
+import java.util.Locale;
 @Getter
 @ToString
 @EntityListeners(AuditingEntityListener.class)
@@ -25,6 +28,10 @@ public abstract class AuditingFields {
     @Column(nullable = false, updatable = false, length = 100)
     protected String createdBy; // 생성자
 
+    @Getter(AccessLevel.NONE)
+    @Column(updatable = false, length = 100)
+    protected String createdByNormalized; // 소문자로 바꾼 생성자. 대소문자 구분 없는 앞부분 일치 검색(API 필터)용
+
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
     @LastModifiedDate
     @Column(nullable = false)
@@ -34,4 +41,14 @@ public abstract class AuditingFields {
     @Column(nullable = false, length = 100)
     protected String modifiedBy; // 수정자
 
+
+    @PrePersist
+    protected void normalizeCreatedBy() {
+        this.createdByNormalized = normalize(this.createdBy);
+    }
+
+    protected static String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
 }
\ No newline at end of file
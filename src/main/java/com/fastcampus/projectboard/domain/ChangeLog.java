@@ -0,0 +1,80 @@
+package com.fastcampus.projectboard.domain;
+
+import com.fastcampus.projectboard.domain.constant.ChangeLogType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+import org.hibernate.Length;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 다른 서버의 캐시를 무효화하기 위한 변경 기록. 게시글, 댓글, 해시태그, 회원을 바꾸는 트랜잭션 안에서 함께 저장한다.
+ * 각 서버는 이 테이블을 ID 순으로 따라 읽으며 자기 캐시를 비운다. ({@link com.fastcampus.projectboard.service.ChangeLogService})
+ */
+@Getter
+@ToString
+@Table(indexes = {
+        @Index(columnList = "createdAt")
+})
+@Entity
+public class ChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChangeLogType entityType; // 바뀐 엔티티 종류
+
+    private Long entityId; // 바뀐 엔티티 ID. 저장 전이라 모르면 null
+    private Long articleId; // 관련 게시글 ID
+    @Column(length = 50) private String userId; // 바뀐 회원 ID. 회원 키는 문자열이라 entityId 에 담지 않는다
+    @Column(length = Length.LONG32) private String hashtagNames; // 관련 해시태그 이름들 (쉼표로 구분). 해시태그 수에 제한이 없으므로 긴 문자열 타입(text)
+    @Column(nullable = false, length = 36) private String origin; // 변경을 만든 서버 ID
+    @Column(nullable = false) private LocalDateTime createdAt; // 기록 시각
+
+
+    protected ChangeLog() {}
+
+    private ChangeLog(ChangeLogType entityType, Long entityId, Long articleId, String userId, String hashtagNames, String origin, LocalDateTime createdAt) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.articleId = articleId;
+        this.userId = userId;
+        this.hashtagNames = hashtagNames;
+        this.origin = origin;
+        this.createdAt = createdAt;
+    }
+
+    public static ChangeLog of(ChangeLogType entityType, Long entityId, Long articleId, Collection<String> hashtagNames, String origin) {
+        return new ChangeLog(
+                entityType,
+                entityId,
+                articleId,
+                null,
+                hashtagNames.isEmpty() ? null : String.join(",", hashtagNames),
+                origin,
+                LocalDateTime.now()
+        );
+    }
+
+    public static ChangeLog ofUserAccount(String userId, String origin) {
+        return new ChangeLog(ChangeLogType.USER_ACCOUNT, null, null, userId, null, origin, LocalDateTime.now());
+    }
+
+    public Set<String> getHashtagNameSet() {
+        if (hashtagNames == null || hashtagNames.isBlank()) {
+            return Set.of();
+        }
+
+        return Arrays.stream(hashtagNames.split(","))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+}
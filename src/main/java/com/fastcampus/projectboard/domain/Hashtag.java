@@ -1,9 +1,12 @@
 package com.fastcampus.projectboard.domain;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.LinkedHashSet;
 import java.util.Objects;
@@ -13,9 +16,12 @@ import java.util.Set;
 @ToString(callSuper = true)
 @Table(indexes = {
         @Index(columnList = "hashtagName", unique = true),
+        @Index(columnList = "hashtagNameNormalized"),
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Entity
 public class Hashtag extends AuditingFields {
 
@@ -28,6 +34,7 @@ public class Hashtag extends AuditingFields {
     private Set<Article> articles = new LinkedHashSet<>();
 
     @Setter @Column(nullable = false) private String hashtagName; // 해시태그 이름
+    @Getter(AccessLevel.NONE) private String hashtagNameNormalized; // 소문자로 바꾼 해시태그 이름. 대소문자 구분 없는 일치 검색(API 필터)용
 
 
     protected Hashtag() {}
@@ -40,6 +47,12 @@ public class Hashtag extends AuditingFields {
         return new Hashtag(hashtagName);
     }
 
+    @PrePersist
+    @PreUpdate
+    private void normalizeHashtagName() {
+        this.hashtagNameNormalized = normalize(this.hashtagName);
+    }
+
 
     @Override
     public boolean equals(Object o) {
@@ -0,0 +1,54 @@
+package com.fastcampus.projectboard.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+import org.hibernate.Length;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 전달하지 않은 도메인 이벤트. 이벤트를 만든 쓰기 트랜잭션 안에서 함께 저장하므로, 커밋된 변경의 이벤트는 잃어버리지 않는다.
+ * ({@link com.fastcampus.projectboard.service.DomainEventService})
+ */
+@Getter
+@ToString
+@Table(indexes = {
+        @Index(columnList = "origin, publishedAt, lockedUntil"),
+        @Index(columnList = "createdAt")
+})
+@Entity
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50) private String eventType; // 이벤트 클래스 이름
+    @Column(nullable = false, length = Length.LONG32) private String payload; // 이벤트 내용 (JSON). 이벤트에 담기는 값의 길이에 제한이 없으므로 긴 문자열 타입(text)
+    @Column(nullable = false, length = 36) private String origin; // 이벤트를 만든 서버 ID. 이 서버만 이벤트를 전달한다.
+    @Column(nullable = false) private int attempts; // 전달에 실패한 횟수
+    @Column(nullable = false) private LocalDateTime lockedUntil; // 이 시각까지는 한 서버가 전달 중이거나 재시도를 기다리는 중
+    private LocalDateTime publishedAt; // 전달을 마친 시각
+    @Column(nullable = false) private LocalDateTime createdAt; // 이벤트가 생긴 시각
+
+
+    protected OutboxEvent() {}
+
+    private OutboxEvent(String eventType, String payload, String origin, LocalDateTime lockedUntil, LocalDateTime createdAt) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.origin = origin;
+        this.lockedUntil = lockedUntil;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * @param origin 이벤트를 만든 서버 ID
+     * @param lockedUntil 이벤트를 만든 서버가 커밋 직후에 직접 전달하는 동안, 다른 서버가 가져가지 않도록 잡아 둘 시각
+     */
+    public static OutboxEvent of(String eventType, String payload, String origin, LocalDateTime lockedUntil) {
+        return new OutboxEvent(eventType, payload, origin, lockedUntil, LocalDateTime.now());
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.fastcampus.projectboard.domain.constant;
+
+import lombok.Getter;
+
+public enum ChangeLogType {
+    ARTICLE("게시글"),
+    ARTICLE_COMMENT("댓글"),
+    HASHTAG("해시태그"),
+    USER_ACCOUNT("회원");
+
+    @Getter private final String description;
+
+    ChangeLogType(String description) {
+        this.description = description;
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.fastcampus.projectboard.domain.event;
+
+import java.util.Set;
+
+/**
+ * @param hashtagNames 새 게시글에 달린 해시태그 이름들
+ */
+public record ArticleCreated(Long articleId, Set<String> hashtagNames) implements DomainEvent {
+}
@@ -0,0 +1,9 @@
+package com.fastcampus.projectboard.domain.event;
+
+import java.util.Set;
+
+/**
+ * @param hashtagNames 삭제된 게시글에 달려 있던 해시태그 이름들
+ */
+public record ArticleDeleted(Long articleId, Set<String> hashtagNames) implements DomainEvent {
+}
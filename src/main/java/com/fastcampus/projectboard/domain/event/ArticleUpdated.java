@@ -0,0 +1,9 @@
+package com.fastcampus.projectboard.domain.event;
+
+import java.util.Set;
+
+/**
+ * @param hashtagNames 수정된 게시글에 달린 해시태그 이름들
+ */
+public record ArticleUpdated(Long articleId, Set<String> hashtagNames) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.fastcampus.projectboard.domain.event;
+
+/**
+ * @param articleCommentId 댓글 ID. 대댓글처럼 저장이 미뤄져서 아직 ID 가 없으면 {@code null}
+ */
+public record CommentAdded(Long articleId, Long articleCommentId) implements DomainEvent {
+}
@@ -0,0 +1,4 @@
+package com.fastcampus.projectboard.domain.event;
+
+public record CommentDeleted(Long articleCommentId, String userId) implements DomainEvent {
+}
@@ -0,0 +1,18 @@
+package com.fastcampus.projectboard.domain.event;
+
+/**
+ * 게시글, 댓글을 저장한 뒤에 처리할 부수 작업(캐시 무효화, 인기 순위 집계, 목록 스냅샷 등)을 알리는 도메인 이벤트.
+ *
+ * <p>
+ * 서비스는 쓰기 트랜잭션 안에서 {@link com.fastcampus.projectboard.service.DomainEventService#publish} 로 이벤트를 아웃박스에 남기고,
+ * 이벤트는 커밋된 뒤 별도 스레드에서 {@code @EventListener} 들에게 전달된다.
+ * 전달이 실패하면 다시 보내므로 같은 이벤트를 두 번 이상 받을 수 있다. 리스너는 여러 번 받아도 문제없게 만든다.
+ */
+public sealed interface DomainEvent permits
+        ArticleCreated,
+        ArticleUpdated,
+        ArticleDeleted,
+        CommentAdded,
+        CommentDeleted,
+        HashtagsChanged {
+}
@@ -0,0 +1,12 @@
+package com.fastcampus.projectboard.domain.event;
+
+import java.util.Set;
+
+/**
+ * 게시글에 해시태그가 새로 달리거나 빠졌다.
+ *
+ * @param hashtagNames 이 게시글이 새로 달거나 뗀 해시태그 이름들
+ * @param addedHashtagNames 그중 새로 단 해시태그 이름들. 이 필드가 생기기 전에 아웃박스에 남은 이벤트면 {@code null}
+ */
+public record HashtagsChanged(Long articleId, Set<String> hashtagNames, Set<String> addedHashtagNames) implements DomainEvent {
+}
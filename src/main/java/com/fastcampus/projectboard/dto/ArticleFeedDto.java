@@ -0,0 +1,20 @@
+package com.fastcampus.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모바일 피드용 게시글 요약. 엔티티를 거치지 않고 필요한 컬럼만 바로 조회한다.
+ */
+public record ArticleFeedDto(
+        Long id,
+        String title,
+        LocalDateTime createdAt,
+        String userId,
+        String nickname
+) {
+
+    public static ArticleFeedDto of(Long id, String title, LocalDateTime createdAt, String userId, String nickname) {
+        return new ArticleFeedDto(id, title, createdAt, userId, nickname);
+    }
+
+}
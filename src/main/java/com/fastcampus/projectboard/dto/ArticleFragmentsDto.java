@@ -0,0 +1,20 @@
+package com.fastcampus.projectboard.dto;
+
+/**
+ * 게시글 상세 페이지에서 미리 렌더링해 둔 HTML 조각.
+ *
+ * @param versionTag 렌더링할 때 사용한 게시글 버전. 버전이 바뀌면 조각을 다시 렌더링한다.
+ * @param bodyHtml 게시글 본문과 작성자 정보
+ * @param commentsHtml 댓글 트리
+ */
+public record ArticleFragmentsDto(
+        String versionTag,
+        String bodyHtml,
+        String commentsHtml
+) {
+
+    public static ArticleFragmentsDto of(String versionTag, String bodyHtml, String commentsHtml) {
+        return new ArticleFragmentsDto(versionTag, bodyHtml, commentsHtml);
+    }
+
+}
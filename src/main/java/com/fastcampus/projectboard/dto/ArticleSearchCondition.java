@@ -0,0 +1,120 @@
+package com.fastcampus.projectboard.dto;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 검색식 하나로 여러 조건을 함께 거는 게시글 검색 조건.
+ *
+ * <p>
+ * 검색식은 공백으로 구분한 항목들이고, 모든 항목을 만족하는 게시글을 찾는다. 공백이 들어간 값은 큰따옴표로 감싼다.
+ * <ul>
+ *     <li>{@code title:값} 제목에 포함</li>
+ *     <li>{@code content:값} 본문에 포함</li>
+ *     <li>{@code #값} 또는 {@code tag:값} 해시태그가 달림</li>
+ *     <li>{@code author:값} 유저 ID 나 닉네임에 포함. 여러 번 쓰면 그중 한 명</li>
+ *     <li>{@code after:2024-01-01}, {@code before:2024-02-01} 작성일 (after 는 그날 포함, before 는 그날 제외)</li>
+ *     <li>그 외의 단어는 제목이나 본문에 포함</li>
+ * </ul>
+ * 예: {@code title:spring #java author:uno after:2024-01-01}
+ *
+ * @param authorUserIds {@code author} 조건에 맞는 유저 ID 를 미리 찾아 두었으면 그 목록. 없으면 {@code null}
+ */
+public record ArticleSearchCondition(
+        List<String> keywords,
+        List<String> titleKeywords,
+        List<String> contentKeywords,
+        List<String> hashtagNames,
+        List<String> authors,
+        Set<String> authorUserIds,
+        LocalDate after,
+        LocalDate before
+) {
+
+    private static final Pattern TOKEN = Pattern.compile("(?:(\\w+):|(#))?(?:\"([^\"]*)\"|(\\S+))");
+
+    public static ArticleSearchCondition of(List<String> keywords, List<String> titleKeywords, List<String> contentKeywords, List<String> hashtagNames, List<String> authors, Set<String> authorUserIds, LocalDate after, LocalDate before) {
+        return new ArticleSearchCondition(keywords, titleKeywords, contentKeywords, hashtagNames, authors, authorUserIds, after, before);
+    }
+
+    /**
+     * 검색식을 해석한다. 알 수 없는 접두어가 붙은 항목이나 날짜 형식이 틀린 항목은 일반 검색어로 취급한다.
+     */
+    public static ArticleSearchCondition from(String query) {
+        List<String> keywords = new ArrayList<>();
+        List<String> titleKeywords = new ArrayList<>();
+        List<String> contentKeywords = new ArrayList<>();
+        List<String> hashtagNames = new ArrayList<>();
+        List<String> authors = new ArrayList<>();
+        LocalDate after = null;
+        LocalDate before = null;
+
+        Matcher matcher = TOKEN.matcher(query == null ? "" : query);
+        while (matcher.find()) {
+            String field = matcher.group(2) != null ? "tag" : matcher.group(1);
+            String value = matcher.group(3) != null ? matcher.group(3) : matcher.group(4);
+            if (value.isBlank()) {
+                continue;
+            }
+
+            switch (field == null ? "" : field.toLowerCase()) {
+                case "title" -> titleKeywords.add(value);
+                case "content" -> contentKeywords.add(value);
+                case "tag" -> hashtagNames.add(value);
+                case "author" -> authors.add(value);
+                case "after" -> {
+                    LocalDate date = parseDate(value);
+                    if (date != null) { after = date; } else { keywords.add(matcher.group()); }
+                }
+                case "before" -> {
+                    LocalDate date = parseDate(value);
+                    if (date != null) { before = date; } else { keywords.add(matcher.group()); }
+                }
+                case "" -> keywords.add(value);
+                default -> keywords.add(matcher.group());
+            }
+        }
+
+        return ArticleSearchCondition.of(
+                List.copyOf(keywords),
+                List.copyOf(titleKeywords),
+                List.copyOf(contentKeywords),
+                List.copyOf(hashtagNames),
+                List.copyOf(authors),
+                null,
+                after,
+                before
+        );
+    }
+
+    public ArticleSearchCondition withAuthorUserIds(Set<String> authorUserIds) {
+        return ArticleSearchCondition.of(keywords, titleKeywords, contentKeywords, hashtagNames, authors, authorUserIds, after, before);
+    }
+
+    /**
+     * @return 작성자 조건에 맞는 회원을 미리 찾아 보았는데 한 명도 없으면 {@code true}. 이때는 조회하지 않아도 결과가 비어 있다.
+     */
+    public boolean hasNoMatchingAuthors() {
+        return authorUserIds != null && authorUserIds.isEmpty();
+    }
+
+    public boolean isEmpty() {
+        return keywords.isEmpty() && titleKeywords.isEmpty() && contentKeywords.isEmpty()
+                && hashtagNames.isEmpty() && authors.isEmpty() && after == null && before == null;
+    }
+
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.fastcampus.projectboard.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 게시글 본문과 댓글의 변경 여부만 판단하기 위한 가벼운 버전 정보.
+ * 엔티티를 읽지 않고 조건부 요청(ETag, Last-Modified)을 처리하는 데 쓴다.
+ */
+public record ArticleVersionDto(
+        Long articleId,
+        LocalDateTime modifiedAt,
+        LocalDateTime latestCommentModifiedAt,
+        Long commentCount
+) {
+
+    public static ArticleVersionDto of(Long articleId, LocalDateTime modifiedAt, LocalDateTime latestCommentModifiedAt, Long commentCount) {
+        return new ArticleVersionDto(articleId, modifiedAt, latestCommentModifiedAt, commentCount);
+    }
+
+    /**
+     * 게시글과 댓글 중 가장 최근에 수정된 시각
+     */
+    public LocalDateTime lastModifiedAt() {
+        if (latestCommentModifiedAt == null || latestCommentModifiedAt.isBefore(modifiedAt)) {
+            return modifiedAt;
+        }
+
+        return latestCommentModifiedAt;
+    }
+
+    public long lastModifiedEpochMilli() {
+        return toEpochMilli(lastModifiedAt());
+    }
+
+    public long articleModifiedEpochMilli() {
+        return toEpochMilli(modifiedAt);
+    }
+
+    /**
+     * 댓글을 포함한 버전 태그. 댓글이 삭제되면 최근 수정 시각이 그대로일 수 있어서 댓글 수도 함께 넣는다.
+     */
+    public String versionTag() {
+        return articleId + "-" + lastModifiedEpochMilli() + "-" + (commentCount == null ? 0 : commentCount);
+    }
+
+    /**
+     * 게시글 본문만의 ETag. 댓글을 따로 내려주는 API 리소스에 쓴다.
+     */
+    public String articleETag() {
+        return "W/\"" + articleId + "-" + articleModifiedEpochMilli() + "\"";
+    }
+
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.fastcampus.projectboard.dto;
+
+public record ArticleViewCountDto(
+        ArticleFeedDto article,
+        long viewCount
+) {
+
+    public static ArticleViewCountDto of(ArticleFeedDto article, long viewCount) {
+        return new ArticleViewCountDto(article, viewCount);
+    }
+
+}
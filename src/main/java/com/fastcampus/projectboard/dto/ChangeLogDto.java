@@ -0,0 +1,39 @@
+package com.fastcampus.projectboard.dto;
+
+import com.fastcampus.projectboard.domain.ChangeLog;
+import com.fastcampus.projectboard.domain.constant.ChangeLogType;
+
+import java.util.Set;
+
+/**
+ * 다른 서버에서 일어난 변경. {@link com.fastcampus.projectboard.service.ChangeLogService} 가 애플리케이션 이벤트로 발행한다.
+ */
+public record ChangeLogDto(
+        Long id,
+        ChangeLogType entityType,
+        Long entityId,
+        Long articleId,
+        Set<String> hashtagNames,
+        String userId
+) {
+
+    public static ChangeLogDto of(Long id, ChangeLogType entityType, Long entityId, Long articleId, Set<String> hashtagNames) {
+        return new ChangeLogDto(id, entityType, entityId, articleId, hashtagNames, null);
+    }
+
+    public static ChangeLogDto ofUserAccount(Long id, String userId) {
+        return new ChangeLogDto(id, ChangeLogType.USER_ACCOUNT, null, null, Set.of(), userId);
+    }
+
+    public static ChangeLogDto from(ChangeLog entity) {
+        return new ChangeLogDto(
+                entity.getId(),
+                entity.getEntityType(),
+                entity.getEntityId(),
+                entity.getArticleId(),
+                entity.getHashtagNameSet(),
+                entity.getUserId()
+        );
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.fastcampus.projectboard.dto;
+
+public record TrendingArticleDto(
+        Long id,
+        String title,
+        long score
+) {
+
+    public static TrendingArticleDto of(Long id, String title, long score) {
+        return new TrendingArticleDto(id, title, score);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.fastcampus.projectboard.dto;
+
+public record TrendingHashtagDto(
+        String hashtagName,
+        long score
+) {
+
+    public static TrendingHashtagDto of(String hashtagName, long score) {
+        return new TrendingHashtagDto(hashtagName, score);
+    }
+
+}
@@ -57,7 +57,9 @@ public record ArticleWithCommentsResponse(
                 .filter(ArticleCommentResponse::hasParentComment)
                 .forEach(comment -> {
                     ArticleCommentResponse parentComment = map.get(comment.parentCommentId());
-                    parentComment.childComments().add(comment);
+                    if (parentComment != null) { // 부모 댓글이 삭제되었으면 대댓글도 보여주지 않는다.
+                        parentComment.childComments().add(comment);
+                    }
                 });
 
         return map.values().stream()
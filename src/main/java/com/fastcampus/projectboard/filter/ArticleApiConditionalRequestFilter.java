@@ -0,0 +1,59 @@
+package com.fastcampus.projectboard.filter;
+
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
+import com.fastcampus.projectboard.service.ArticleService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Spring Data REST 의 게시글 단건 리소스({@code /api/articles/{id}})에 대한 조건부 요청을 처리한다.
+ * 버전 조회만으로 ETag 를 비교하고, 변경이 없으면 엔티티를 읽기 전에 304 로 응답한다.
+ *
+ * <p>
+ * Last-Modified 와 If-Modified-Since 는 Spring Data REST 가 {@code @LastModifiedDate} 로 직접 처리하므로 여기서는 ETag 만 다룬다.
+ */
+@RequiredArgsConstructor
+public class ArticleApiConditionalRequestFilter extends OncePerRequestFilter {
+
+    private static final Pattern ARTICLE_RESOURCE_PATH = Pattern.compile("^/api/articles/(\\d+)$");
+
+    private final ArticleService articleService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Matcher matcher = ARTICLE_RESOURCE_PATH.matcher(request.getRequestURI().substring(request.getContextPath().length()));
+        if (!matcher.matches()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<ArticleVersionDto> version = articleService.getArticleVersion(Long.valueOf(matcher.group(1)));
+        if (version.isPresent()) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+            if (new ServletWebRequest(request, response).checkNotModified(version.get().articleETag())) {
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.fastcampus.projectboard.filter;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.service.ArticleIndexSnapshotService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 비로그인 사용자의 게시글 목록 요청에, 미리 렌더링해 둔 화면이 있으면 컨트롤러를 거치지 않고 바로 응답한다.
+ * 기본 정렬의 목록과 해시태그 검색 목록만 대상이고, 정렬이나 페이지 크기를 바꾼 요청은 그대로 통과시킨다.
+ */
+@RequiredArgsConstructor
+public class ArticleIndexSnapshotFilter extends OncePerRequestFilter {
+
+    public static final String SNAPSHOT_HEADER = "X-Index-Snapshot";
+
+    private static final Set<String> SNAPSHOT_PARAMETERS = Set.of("page", "searchType", "searchValue");
+
+    private final ArticleIndexSnapshotService articleIndexSnapshotService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || request.getUserPrincipal() != null
+                || !articleIndexSnapshotService.isEnabled()
+                || articleIndexSnapshotService.isRenderRequest(request.getHeader(ArticleIndexSnapshotService.RENDER_HEADER));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Optional<byte[]> snapshot = findSnapshot(request);
+        if (snapshot.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        byte[] html = snapshot.get();
+        response.setContentType(MediaType.TEXT_HTML_VALUE + ";charset=UTF-8");
+        response.setContentLength(html.length);
+        response.setHeader(SNAPSHOT_HEADER, "hit");
+        response.getOutputStream().write(html);
+    }
+
+
+    private Optional<byte[]> findSnapshot(HttpServletRequest request) {
+        if (!SNAPSHOT_PARAMETERS.containsAll(request.getParameterMap().keySet())) {
+            return Optional.empty();
+        }
+
+        String searchType = request.getParameter("searchType");
+        String searchValue = request.getParameter("searchValue");
+        String hashtagName = null;
+        if (searchType != null || searchValue != null) {
+            if (!SearchType.HASHTAG.name().equals(searchType) || searchValue == null || searchValue.isBlank()) {
+                return Optional.empty();
+            }
+            hashtagName = searchValue;
+        }
+
+        String page = request.getParameter("page");
+        try {
+            return articleIndexSnapshotService.getSnapshot(hashtagName, page == null ? 0 : Integer.parseInt(page));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.fastcampus.projectboard.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 요청마다 상관관계 ID 를 정해서 로그 MDC({@value #MDC_KEY})와 응답 헤더({@value #HEADER_NAME})에 넣는다.
+ * 앞단(로드 밸런서, 게이트웨이)이 보낸 ID 가 있으면 그대로 쓰고, 없거나 형식이 이상하면 새로 만든다.
+ */
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_NAME = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+    private static final Pattern VALID_ID = Pattern.compile("^[A-Za-z0-9._-]{1,64}$");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String requestId = request.getHeader(HEADER_NAME);
+        if (requestId == null || !VALID_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString();
+        }
+
+        MDC.put(MDC_KEY, requestId);
+        response.setHeader(HEADER_NAME, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.fastcampus.projectboard.monitoring;
+
+/**
+ * 현재 스레드에서 실행 중인 리포지토리 메서드 이름({@code ArticleRepository.findByHashtagNames} 형식)을 들고 있는다.
+ * 느린 쿼리가 어느 리포지토리 메서드에서 나왔는지 알아내는 데 쓴다.
+ */
+public final class RepositoryMethodContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private RepositoryMethodContext() {}
+
+    /**
+     * @return 실행 중인 리포지토리 메서드 이름. 리포지토리 밖(트랜잭션 커밋 시점의 flush 등)이면 {@code null}
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 리포지토리 메서드 이름을 바꾸고, 이전 값을 돌려준다. 끝나면 이전 값으로 {@link #restore(String)} 해야 한다.
+     */
+    static String enter(String repositoryMethod) {
+        String previous = CURRENT.get();
+        CURRENT.set(repositoryMethod);
+
+        return previous;
+    }
+
+    static void restore(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.fastcampus.projectboard.monitoring;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * 모든 Spring Data 리포지토리 프록시에, 호출된 메서드 이름을 {@link RepositoryMethodContext} 에 기록하는 인터셉터를 붙인다.
+ */
+public class RepositoryMethodTrackingPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+            repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory ->
+                    repositoryFactory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> {
+                        String repositoryName = repositoryInformation.getRepositoryInterface().getSimpleName();
+                        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                            String previous = RepositoryMethodContext.enter(repositoryName + "." + invocation.getMethod().getName());
+                            try {
+                                return invocation.proceed();
+                            } finally {
+                                RepositoryMethodContext.restore(previous);
+                            }
+                        });
+                    })
+            );
+        }
+
+        return bean;
+    }
+
+}
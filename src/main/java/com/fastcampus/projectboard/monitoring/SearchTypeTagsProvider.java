@@ -0,0 +1,37 @@
+package com.fastcampus.projectboard.monitoring;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.aspectj.lang.ProceedingJoinPoint;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * {@code @Timed} 메서드 타이머의 기본 태그({@code class}, {@code method})에 검색 유형 태그({@code searchType})를 더한다.
+ * 인자에 {@link SearchType} 이 없거나 검색하지 않은 호출은 {@value #NONE} 으로 기록한다.
+ */
+public class SearchTypeTagsProvider implements Function<ProceedingJoinPoint, Iterable<Tag>> {
+
+    public static final String TAG_KEY = "searchType";
+    public static final String NONE = "NONE";
+
+    @Override
+    public Iterable<Tag> apply(ProceedingJoinPoint joinPoint) {
+        String searchType = Arrays.stream(joinPoint.getArgs())
+                .filter(SearchType.class::isInstance)
+                .map(SearchType.class::cast)
+                .map(SearchType::name)
+                .findFirst()
+                .orElse(NONE);
+
+        return Tags.concat(
+                TimedAspect.DEFAULT_TAGS_BASED_ON_JOIN_POINT.apply(joinPoint),
+                TAG_KEY, Objects.requireNonNull(searchType)
+        );
+    }
+
+}
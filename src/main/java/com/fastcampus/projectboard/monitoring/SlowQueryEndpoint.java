@@ -0,0 +1,29 @@
+package com.fastcampus.projectboard.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * 느린 쿼리 버퍼를 보여주는 actuator 엔드포인트. ({@code /actuator/slowqueries})
+ */
+@RequiredArgsConstructor
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final SlowQueryRecorder slowQueryRecorder;
+
+    @ReadOperation
+    public List<SlowQueryEntry> slowQueries() {
+        return slowQueryRecorder.snapshot();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowQueryRecorder.clear();
+    }
+
+}
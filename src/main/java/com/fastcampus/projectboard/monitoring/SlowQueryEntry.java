@@ -0,0 +1,33 @@
+package com.fastcampus.projectboard.monitoring;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 느린 쿼리 버퍼에 남기는 항목. 바인딩 값은 남기지 않고 형태만 남긴다.
+ *
+ * @param sequence 기록 순번
+ * @param executedAt 실행이 끝난 시각
+ * @param elapsedMillis 실행 시간 (밀리초)
+ * @param normalizedSql 리터럴을 {@code ?} 로 바꾸고 공백을 정리한 SQL
+ * @param bindTypes 바인딩 파라미터 형태
+ * @param repositoryMethod 쿼리를 실행한 리포지토리 메서드. 알 수 없으면 {@code null}
+ * @param requestId 요청 상관관계 ID. 요청 밖이면 {@code null}
+ * @param explain 실행 계획. 수집하지 않았거나 아직 수집 중이면 {@code null}
+ */
+public record SlowQueryEntry(
+        long sequence,
+        Instant executedAt,
+        long elapsedMillis,
+        String normalizedSql,
+        List<String> bindTypes,
+        String repositoryMethod,
+        String requestId,
+        String explain
+) {
+
+    public SlowQueryEntry withExplain(String explain) {
+        return new SlowQueryEntry(sequence, executedAt, elapsedMillis, normalizedSql, bindTypes, repositoryMethod, requestId, explain);
+    }
+
+}
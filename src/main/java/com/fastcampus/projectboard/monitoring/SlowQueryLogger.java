@@ -0,0 +1,38 @@
+package com.fastcampus.projectboard.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 기준 시간보다 오래 걸린 SQL 만 표본으로 골라 로그로 남긴다.
+ * 모든 SQL 을 남기는 {@code show-sql} 대신 운영 환경에서 쓴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SlowQueryLogger implements SqlExecutionListener {
+
+    private final Duration threshold;
+    private final double sampleRate;
+
+    @Override
+    public void afterExecution(SqlExecution execution) {
+        if (execution.elapsedNanos() < threshold.toNanos()) {
+            return;
+        }
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        log.warn("느린 쿼리 - {}ms, repository: {}, sql: {}, binds: {}",
+                Duration.ofNanos(execution.elapsedNanos()).toMillis(), RepositoryMethodContext.current(), execution.sql(), execution.bindTypes());
+    }
+
+    @Override
+    public long thresholdNanos() {
+        return threshold.toNanos();
+    }
+
+}
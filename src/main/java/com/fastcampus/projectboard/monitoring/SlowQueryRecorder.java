@@ -0,0 +1,182 @@
+package com.fastcampus.projectboard.monitoring;
+
+import com.fastcampus.projectboard.filter.CorrelationIdFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 기준 시간보다 오래 걸린 SQL 을 크기가 정해진 링 버퍼에 남긴다. 버퍼가 차면 가장 오래된 항목부터 덮어쓴다.
+ *
+ * <p>
+ * 실행 계획 수집을 켜면 느린 {@code SELECT} 문을 별도 스레드에서 같은 바인딩 값으로 {@code EXPLAIN} 해서 항목에 붙인다.
+ * 실행 계획 수집이 밀리면 요청을 막지 않고 버린다.
+ */
+@Slf4j
+public class SlowQueryRecorder implements SqlExecutionListener, DisposableBean {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int EXPLAIN_QUEUE_SIZE = 16;
+
+    private final long thresholdNanos;
+    private final AtomicReferenceArray<SlowQueryEntry> entries;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Supplier<DataSource> explainDataSource;
+    private final ThreadPoolExecutor explainExecutor;
+
+    /**
+     * @param threshold 이 시간 이상 걸린 SQL 을 기록한다.
+     * @param capacity 버퍼 크기. 0 이면 기록하지 않는다.
+     * @param explainDataSource 실행 계획을 뽑을 데이터 소스. 실행 계획을 수집하지 않으면 {@code null}.
+     *                          같은 리스너로 다시 돌아오지 않도록 감싸지 않은 원본 데이터 소스를 줘야 한다.
+     */
+    public SlowQueryRecorder(Duration threshold, int capacity, Supplier<DataSource> explainDataSource) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("느린 쿼리 버퍼 크기는 0 이상이어야 합니다 - " + capacity);
+        }
+
+        this.thresholdNanos = threshold.toNanos();
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.explainDataSource = explainDataSource;
+        this.explainExecutor = explainDataSource == null || capacity == 0 ? null : new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(EXPLAIN_QUEUE_SIZE),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy()
+        );
+    }
+
+    @Override
+    public void afterExecution(SqlExecution execution) {
+        if (entries.length() == 0 || execution.elapsedNanos() < thresholdNanos || execution.sql() == null) {
+            return;
+        }
+
+        long currentSequence = sequence.incrementAndGet();
+        int slot = (int) (currentSequence % entries.length());
+        SlowQueryEntry entry = new SlowQueryEntry(
+                currentSequence,
+                Instant.now(),
+                Duration.ofNanos(execution.elapsedNanos()).toMillis(),
+                normalize(execution.sql()),
+                execution.bindTypes(),
+                RepositoryMethodContext.current(),
+                MDC.get(CorrelationIdFilter.MDC_KEY),
+                null
+        );
+        entries.set(slot, entry);
+
+        if (explainExecutor != null && isSelect(execution.sql())) {
+            explainExecutor.execute(() -> explain(slot, entry, execution));
+        }
+    }
+
+    @Override
+    public long thresholdNanos() {
+        return thresholdNanos;
+    }
+
+    /**
+     * @return 버퍼에 남아 있는 느린 쿼리. 최근 것부터 정렬한다.
+     */
+    public List<SlowQueryEntry> snapshot() {
+        List<SlowQueryEntry> snapshot = new ArrayList<>(entries.length());
+        for (int i = 0; i < entries.length(); i++) {
+            SlowQueryEntry entry = entries.get(i);
+            if (entry != null) {
+                snapshot.add(entry);
+            }
+        }
+        snapshot.sort(Comparator.comparingLong(SlowQueryEntry::sequence).reversed());
+
+        return snapshot;
+    }
+
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, null);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (explainExecutor != null) {
+            explainExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 문자열, 숫자 리터럴을 {@code ?} 로 바꾸고, 길이가 다른 {@code IN (?, ?, ...)} 목록을 하나로 모으고, 공백을 정리한다.
+     * 같은 모양의 쿼리를 한데 묶어 보기 위한 것이다.
+     */
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?...)");
+
+        return WHITESPACE.matcher(normalized).replaceAll(" ").strip();
+    }
+
+
+    private static boolean isSelect(String sql) {
+        return sql.stripLeading().regionMatches(true, 0, "select", 0, 6);
+    }
+
+    private void explain(int slot, SlowQueryEntry entry, SqlExecution execution) {
+        try (Connection connection = explainDataSource.get().getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + execution.sql())) {
+            List<Object> bindValues = execution.bindValues();
+            for (int i = 0; i < bindValues.size(); i++) {
+                statement.setObject(i + 1, bindValues.get(i));
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                entries.compareAndSet(slot, entry, entry.withExplain(format(resultSet)));
+            }
+        } catch (SQLException e) {
+            log.debug("느린 쿼리 실행 계획 수집 실패 - sequence: {}, {}", entry.sequence(), e.getLocalizedMessage());
+        }
+    }
+
+    private static String format(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        StringJoiner rows = new StringJoiner("\n");
+        while (resultSet.next()) {
+            StringJoiner columns = new StringJoiner(" | ");
+            for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                columns.add(metaData.getColumnLabel(column) + "=" + resultSet.getString(column));
+            }
+            rows.add(columns.toString());
+        }
+
+        return rows.toString();
+    }
+
+}
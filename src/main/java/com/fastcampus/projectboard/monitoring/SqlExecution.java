@@ -0,0 +1,19 @@
+package com.fastcampus.projectboard.monitoring;
+
+import java.util.List;
+
+/**
+ * 실행된 SQL 한 건.
+ *
+ * @param sql 실행한 SQL. 알 수 없으면 {@code null}
+ * @param bindTypes 바인딩 파라미터의 형태 ({@code String}, {@code Long}, {@code Null} 등). 순서는 파라미터 위치와 같다.
+ * @param bindValues 바인딩 파라미터 값. 실행 계획을 다시 뽑을 때만 쓰고, 로그나 버퍼에 남기지 않는다.
+ * @param elapsedNanos 실행 시간 (나노초)
+ */
+public record SqlExecution(
+        String sql,
+        List<String> bindTypes,
+        List<Object> bindValues,
+        long elapsedNanos
+) {
+}
@@ -0,0 +1,19 @@
+package com.fastcampus.projectboard.monitoring;
+
+/**
+ * {@link SqlStatisticsDataSource} 를 거쳐 실행된 SQL 을 통보받는다.
+ * JDBC 호출 스레드에서 바로 호출되므로 구현은 가벼워야 한다.
+ */
+@FunctionalInterface
+public interface SqlExecutionListener {
+
+    void afterExecution(SqlExecution execution);
+
+    /**
+     * 이 시간(나노초)보다 빨리 끝난 SQL 은 통보받지 않는다. 통보할 리스너가 없으면 바인딩 값도 복사하지 않는다.
+     */
+    default long thresholdNanos() {
+        return 0L;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.fastcampus.projectboard.monitoring;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * 하나의 측정 범위(HTTP 요청, 서비스 메서드 호출) 안에서 실행된 SQL 통계.
+ */
+@Getter
+@ToString
+public class SqlStatistics {
+
+    private int statementCount;
+    private long rowCount;
+    private long jdbcNanos;
+
+    void recordStatement(long elapsedNanos) {
+        statementCount++;
+        jdbcNanos += elapsedNanos;
+    }
+
+    void recordRows(long rows) {
+        rowCount += rows;
+    }
+
+    public Duration getJdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+
+}
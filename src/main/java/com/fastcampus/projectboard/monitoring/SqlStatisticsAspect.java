@@ -0,0 +1,36 @@
+package com.fastcampus.projectboard.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * 서비스 메서드 호출 하나에서 실행된 SQL 을 집계한다.
+ * 트랜잭션 커밋 시점의 flush 까지 포함하도록 트랜잭션 어드바이스보다 바깥에서 동작한다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Aspect
+@RequiredArgsConstructor
+public class SqlStatisticsAspect {
+
+    private final SqlStatisticsMetrics sqlStatisticsMetrics;
+
+    @Around("within(com.fastcampus.projectboard.service..*) && execution(public * *(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        SqlStatistics statistics = SqlStatisticsContext.open();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            SqlStatisticsContext.close(statistics);
+            sqlStatisticsMetrics.record(
+                    SqlStatisticsMetrics.SCOPE_METHOD,
+                    joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName(),
+                    statistics
+            );
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.fastcampus.projectboard.monitoring;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 현재 스레드에서 열려 있는 SQL 측정 범위를 관리한다.
+ * 범위는 중첩될 수 있고, 실행된 SQL 은 열려 있는 모든 범위에 함께 기록된다. (요청 범위 안의 서비스 메서드 범위 등)
+ */
+public final class SqlStatisticsContext {
+
+    /**
+     * 범위가 열린 스레드에만 만든다. JDBC 를 쓰는 모든 스레드(가상 스레드 포함)에 빈 덱을 만들지 않기 위해서다.
+     */
+    private static final ThreadLocal<Deque<SqlStatistics>> SCOPES = new ThreadLocal<>();
+
+    private SqlStatisticsContext() {}
+
+    /**
+     * 새 측정 범위를 연다. 반드시 {@link #close(SqlStatistics)} 로 닫아야 한다.
+     */
+    public static SqlStatistics open() {
+        SqlStatistics statistics = new SqlStatistics();
+        Deque<SqlStatistics> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        scopes.push(statistics);
+
+        return statistics;
+    }
+
+    public static void close(SqlStatistics statistics) {
+        Deque<SqlStatistics> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+
+        scopes.remove(statistics);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+
+    static void recordStatement(long elapsedNanos) {
+        Deque<SqlStatistics> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+
+        for (SqlStatistics statistics : scopes) {
+            statistics.recordStatement(elapsedNanos);
+        }
+    }
+
+    static void recordRows(long rows) {
+        Deque<SqlStatistics> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+
+        for (SqlStatistics statistics : scopes) {
+            statistics.recordRows(rows);
+        }
+    }
+
+}
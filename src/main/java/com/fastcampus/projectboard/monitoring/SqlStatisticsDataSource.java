@@ -0,0 +1,219 @@
+package com.fastcampus.projectboard.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 커넥션과 statement 를 감싸서 SQL 실행 횟수, 조회 행 수, JDBC 실행 시간을 {@link SqlStatisticsContext} 에 기록하는 데이터 소스.
+ * 열려 있는 측정 범위가 없으면 기록하지 않는다. 실행된 SQL 과 실행 시간은 측정 범위와 상관없이 {@link SqlExecutionListener} 에게 알린다.
+ * 리스너가 없으면 바인딩 호출을 기록하지 않고, 어느 리스너의 기준 시간에도 못 미친 SQL 은 바인딩 값을 복사하지 않는다.
+ *
+ * <p>
+ * 커넥션 풀 빈을 대신하므로, 컨텍스트가 닫힐 때 풀도 닫히도록 {@link #close()} 를 감싼 데이터 소스에 넘긴다.
+ */
+public class SqlStatisticsDataSource extends DelegatingDataSource implements Closeable {
+
+    private final Supplier<ExecutionListeners> listeners;
+
+    public SqlStatisticsDataSource(DataSource targetDataSource) {
+        this(targetDataSource, List::of);
+    }
+
+    /**
+     * @param listeners SQL 실행 리스너 목록. 처음 SQL 이 실행될 때 한 번만 가져온다.
+     */
+    public SqlStatisticsDataSource(DataSource targetDataSource, Supplier<List<SqlExecutionListener>> listeners) {
+        super(targetDataSource);
+        this.listeners = SingletonSupplier.of(() -> ExecutionListeners.of(listeners.get()));
+    }
+
+    /**
+     * 감싼 데이터 소스가 닫을 수 있는 커넥션 풀이면 닫는다.
+     */
+    @Override
+    public void close() throws IOException {
+        if (obtainTargetDataSource() instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection(), listeners));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password), listeners));
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SqlStatisticsDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String sqlArgument(Object[] args) {
+        return args != null && args.length > 0 && args[0] instanceof String sql ? sql : null;
+    }
+
+    private record ConnectionHandler(Connection target, Supplier<ExecutionListeners> listeners) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlStatisticsDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return proxy(method.getReturnType(), new StatementHandler(statement, sqlArgument(args), listeners));
+            }
+
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final Supplier<ExecutionListeners> listeners;
+        private final List<String> bindTypes = new ArrayList<>();
+        private final List<Object> bindValues = new ArrayList<>();
+
+        private StatementHandler(Statement target, String preparedSql, Supplier<List<SqlExecutionListener>> listeners) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.listeners = listeners;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                if (!listeners.get().isEmpty()) {
+                    recordBind(name, args);
+                }
+                Object result = SqlStatisticsDataSource.invoke(target, method, args);
+                return name.equals("getResultSet") && result instanceof ResultSet resultSet
+                        ? proxy(ResultSet.class, new ResultSetHandler(resultSet))
+                        : result;
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                Object result = SqlStatisticsDataSource.invoke(target, method, args);
+                if (result instanceof ResultSet resultSet) {
+                    return proxy(ResultSet.class, new ResultSetHandler(resultSet));
+                }
+                if (result instanceof Number updateCount) {
+                    SqlStatisticsContext.recordRows(Math.max(updateCount.longValue(), 0));
+                } else if (result instanceof int[] batchCounts) {
+                    SqlStatisticsContext.recordRows(Arrays.stream(batchCounts).filter(count -> count > 0).sum());
+                } else if (result instanceof long[] batchCounts) {
+                    SqlStatisticsContext.recordRows(Arrays.stream(batchCounts).filter(count -> count > 0).sum());
+                }
+
+                return result;
+            } finally {
+                long elapsedNanos = System.nanoTime() - startedAt;
+                SqlStatisticsContext.recordStatement(elapsedNanos);
+                ExecutionListeners executionListeners = listeners.get();
+                if (executionListeners.accepts(elapsedNanos)) {
+                    executionListeners.afterExecution(new SqlExecution(
+                            preparedSql != null ? preparedSql : sqlArgument(args),
+                            List.copyOf(bindTypes),
+                            Collections.unmodifiableList(new ArrayList<>(bindValues)),
+                            elapsedNanos
+                    ));
+                }
+            }
+        }
+
+        /**
+         * {@code setString(1, ...)}, {@code setNull(2, ...)} 처럼 위치 기반 바인딩 호출을 기록한다.
+         */
+        private void recordBind(String name, Object[] args) {
+            if (name.equals("clearParameters")) {
+                bindTypes.clear();
+                bindValues.clear();
+                return;
+            }
+            if (!name.startsWith("set") || args == null || args.length < 2 || !(args[0] instanceof Integer index) || index < 1) {
+                return;
+            }
+
+            while (bindTypes.size() < index) {
+                bindTypes.add("?");
+                bindValues.add(null);
+            }
+            bindTypes.set(index - 1, name.substring(3));
+            bindValues.set(index - 1, name.equals("setNull") ? null : args[1]);
+        }
+    }
+
+    /**
+     * SQL 실행 리스너와, 그 중 가장 짧은 기준 시간
+     */
+    private record ExecutionListeners(List<SqlExecutionListener> listeners, long minThresholdNanos) {
+
+        static ExecutionListeners of(List<SqlExecutionListener> listeners) {
+            long minThresholdNanos = listeners.stream()
+                    .mapToLong(SqlExecutionListener::thresholdNanos)
+                    .min()
+                    .orElse(Long.MAX_VALUE);
+
+            return new ExecutionListeners(List.copyOf(listeners), minThresholdNanos);
+        }
+
+        boolean isEmpty() {
+            return listeners.isEmpty();
+        }
+
+        boolean accepts(long elapsedNanos) {
+            return !listeners.isEmpty() && elapsedNanos >= minThresholdNanos;
+        }
+
+        void afterExecution(SqlExecution execution) {
+            for (SqlExecutionListener listener : listeners) {
+                if (execution.elapsedNanos() >= listener.thresholdNanos()) {
+                    listener.afterExecution(execution);
+                }
+            }
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlStatisticsDataSource.invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                SqlStatisticsContext.recordRows(1);
+            }
+
+            return result;
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.fastcampus.projectboard.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 컨테이너에 등록된 데이터 소스를 {@link SqlStatisticsDataSource} 로 감싼다.
+ */
+@RequiredArgsConstructor
+public class SqlStatisticsDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SqlExecutionListener> sqlExecutionListeners;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatisticsDataSource)) {
+            return new SqlStatisticsDataSource(dataSource, () -> sqlExecutionListeners.orderedStream().toList());
+        }
+
+        return bean;
+    }
+
+}
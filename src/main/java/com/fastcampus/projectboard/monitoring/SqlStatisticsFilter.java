@@ -0,0 +1,45 @@
+package com.fastcampus.projectboard.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * HTTP 요청 하나에서 실행된 SQL 을 집계해서 지표로 남기고, 허용 횟수를 넘으면 경고 로그를 남긴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final SqlStatisticsMetrics sqlStatisticsMetrics;
+    private final int statementBudget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlStatistics statistics = SqlStatisticsContext.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatisticsContext.close(statistics);
+
+            String uri = Objects.requireNonNullElse((String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), UNKNOWN_URI);
+            sqlStatisticsMetrics.record(SqlStatisticsMetrics.SCOPE_REQUEST, uri, statistics);
+            if (statistics.getStatementCount() > statementBudget) {
+                log.warn("요청 하나의 SQL 실행 횟수가 허용치를 넘었습니다. N+1 쿼리를 확인하세요 - {} {}, statements: {}, budget: {}, rows: {}, jdbcTime: {}ms",
+                        request.getMethod(), request.getRequestURI(), statistics.getStatementCount(), statementBudget,
+                        statistics.getRowCount(), statistics.getJdbcTime().toMillis());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.fastcampus.projectboard.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 측정 범위별 SQL 통계를 Micrometer 지표로 기록한다.
+ * <ul>
+ *     <li>{@code board.sql.statements}: 범위 하나에서 실행된 SQL 수</li>
+ *     <li>{@code board.sql.rows}: 범위 하나에서 읽거나 변경한 행 수</li>
+ *     <li>{@code board.sql.time}: 범위 하나에서 JDBC 호출에 쓴 시간</li>
+ * </ul>
+ * 태그 {@code scope} 는 {@code request} 또는 {@code method}, 태그 {@code name} 은 요청 URI 패턴이나 서비스 메서드 이름이다.
+ */
+@RequiredArgsConstructor
+public class SqlStatisticsMetrics {
+
+    public static final String SCOPE_REQUEST = "request";
+    public static final String SCOPE_METHOD = "method";
+
+    private final MeterRegistry meterRegistry;
+
+    public void record(String scope, String name, SqlStatistics statistics) {
+        DistributionSummary.builder("board.sql.statements")
+                .tag("scope", scope)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(statistics.getStatementCount());
+        DistributionSummary.builder("board.sql.rows")
+                .tag("scope", scope)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(statistics.getRowCount());
+        Timer.builder("board.sql.time")
+                .tag("scope", scope)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(statistics.getJdbcTime());
+    }
+
+}
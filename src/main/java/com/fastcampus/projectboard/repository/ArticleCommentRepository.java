@@ -3,15 +3,22 @@ package com.fastcampus.projectboard.repository;
 import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.QArticleComment;
 import com.fastcampus.projectboard.domain.projection.ArticleCommentProjection;
-import com.querydsl.core.types.dsl.DateTimeExpression;
+import com.fastcampus.projectboard.repository.querydsl.QuerydslBindingSupport;
 import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @RepositoryRestResource(excerptProjection = ArticleCommentProjection.class)
 public interface ArticleCommentRepository extends
@@ -19,13 +26,34 @@ public interface ArticleCommentRepository extends
         QuerydslPredicateExecutor<ArticleComment>,
         QuerydslBinderCustomizer<QArticleComment> {
     List<ArticleComment> findByArticle_Id(Long articleId);
-    void deleteByIdAndUserAccount_UserId(Long articleCommentId, String userId);
+    @RestResource(exported = false)
+    boolean existsByIdAndArticle_Id(Long articleCommentId, Long articleId);
+    @RestResource(exported = false)
+    @Query("select c.article.id from ArticleComment c where c.id = :articleCommentId")
+    Optional<Long> findArticleIdById(@Param("articleCommentId") Long articleCommentId);
+    @RestResource(exported = false)
+    @Modifying
+    @Query("update ArticleComment c set c.deletedAt = :deletedAt where c.id = :articleCommentId and c.userAccount.userId = :userId and c.deletedAt is null")
+    int softDeleteByIdAndUserId(@Param("articleCommentId") Long articleCommentId, @Param("userId") String userId, @Param("deletedAt") LocalDateTime deletedAt);
+    @RestResource(exported = false)
+    @Query("select c.id from ArticleComment c where c.parentCommentId in :parentCommentIds")
+    List<Long> findIdsByParentCommentIdIn(@Param("parentCommentIds") Collection<Long> parentCommentIds);
+    @RestResource(exported = false)
+    @Modifying
+    @Query("update ArticleComment c set c.deletedAt = :deletedAt where c.id in :articleCommentIds and c.deletedAt is null")
+    int softDeleteByIdIn(@Param("articleCommentIds") Collection<Long> articleCommentIds, @Param("deletedAt") LocalDateTime deletedAt);
+    @RestResource(exported = false)
+    @Modifying
+    @Query("update ArticleComment c set c.deletedAt = :deletedAt where c.article.id = :articleId and c.deletedAt is null")
+    int softDeleteByArticleId(@Param("articleId") Long articleId, @Param("deletedAt") LocalDateTime deletedAt);
     @Override
     default void customize(QuerydslBindings bindings, QArticleComment root) {
         bindings.excludeUnlistedProperties(true);
-        bindings.including(root.content, root.createdAt, root.createdBy);
+        bindings.including(root.content, root.createdAt, root.createdBy, root.createdByNormalized);
         bindings.bind(root.content).first(StringExpression::containsIgnoreCase);
-        bindings.bind(root.createdAt).first(DateTimeExpression::eq);
+        bindings.bind(root.createdAt).all(QuerydslBindingSupport::equalOrBetween);
         bindings.bind(root.createdBy).first(StringExpression::containsIgnoreCase);
+        // 인덱스를 타는 필터: 대소문자 구분 없는 앞부분 일치
+        bindings.bind(root.createdByNormalized).as("createdByPrefix").first(QuerydslBindingSupport::startsWithNormalized);
     }
 }
\ No newline at end of file
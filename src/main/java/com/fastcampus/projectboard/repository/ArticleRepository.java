@@ -4,15 +4,22 @@ import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.QArticle;
 import com.fastcampus.projectboard.domain.projection.ArticleProjection;
 import com.fastcampus.projectboard.repository.querydsl.ArticleRepositoryCustom;
-import com.querydsl.core.types.dsl.DateTimeExpression;
+import com.fastcampus.projectboard.repository.querydsl.QuerydslBindingSupport;
 import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 
 @RepositoryRestResource(excerptProjection = ArticleProjection.class)
 public interface ArticleRepository extends
@@ -24,15 +31,23 @@ public interface ArticleRepository extends
     Page<Article> findByContentContaining(String content, Pageable pageable);
     Page<Article> findByUserAccount_UserIdContaining(String userId, Pageable pageable);
     Page<Article> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
-    void deleteByIdAndUserAccount_UserId(Long articleId, String userid);
+    Page<Article> findByUserAccount_UserIdIn(Collection<String> userIds, Pageable pageable);
+    @RestResource(exported = false)
+    @Modifying
+    @Query("update Article a set a.deletedAt = :deletedAt where a.id = :articleId and a.userAccount.userId = :userId and a.deletedAt is null")
+    int softDeleteByIdAndUserId(@Param("articleId") Long articleId, @Param("userId") String userId, @Param("deletedAt") LocalDateTime deletedAt);
     @Override
     default void customize(QuerydslBindings bindings, QArticle root) {
         bindings.excludeUnlistedProperties(true);
-        bindings.including(root.title, root.content, root.hashtags, root.createdAt, root.createdBy);
+        bindings.including(root.title, root.titleNormalized, root.content, root.hashtags, root.createdAt, root.createdBy, root.createdByNormalized);
         bindings.bind(root.title).first(StringExpression::containsIgnoreCase);
         bindings.bind(root.content).first(StringExpression::containsIgnoreCase);
         bindings.bind(root.hashtags.any().hashtagName).first(StringExpression::containsIgnoreCase);
-        bindings.bind(root.createdAt).first(DateTimeExpression::eq);
+        bindings.bind(root.createdAt).all(QuerydslBindingSupport::equalOrBetween);
         bindings.bind(root.createdBy).first(StringExpression::containsIgnoreCase);
+        // 인덱스를 타는 필터: 대소문자 구분 없는 앞부분 일치, 해시태그 이름 일치
+        bindings.bind(root.titleNormalized).as("titlePrefix").first(QuerydslBindingSupport::startsWithNormalized);
+        bindings.bind(root.createdByNormalized).as("createdByPrefix").first(QuerydslBindingSupport::startsWithNormalized);
+        bindings.bind(root.hashtags.any().hashtagNameNormalized).as("hashtagName").first(QuerydslBindingSupport::equalsNormalized);
     }
 }
\ No newline at end of file
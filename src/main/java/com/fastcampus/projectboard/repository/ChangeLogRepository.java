@@ -0,0 +1,22 @@
+package com.fastcampus.projectboard.repository;
+
+import com.fastcampus.projectboard.domain.ChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLog, Long> {
+    List<ChangeLog> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    List<ChangeLog> findByIdIn(Collection<Long> ids);
+    Optional<ChangeLog> findFirstByOrderByIdDesc();
+    @Modifying
+    @Query("delete from ChangeLog c where c.createdAt < :createdAt")
+    int deleteByCreatedAtBefore(@Param("createdAt") LocalDateTime createdAt);
+}
@@ -2,9 +2,15 @@ package com.fastcampus.projectboard.repository;
 
 import com.fastcampus.projectboard.domain.Hashtag;
 import com.fastcampus.projectboard.repository.querydsl.HashTagRepositoryCustom;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,5 +22,13 @@ public interface HashTagRepository extends
         HashTagRepositoryCustom,
         QuerydslPredicateExecutor<Hashtag> {
     Optional<Hashtag> findByHashtagName(String hashtagName);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Hashtag> findByHashtagNameIn(Set<String> hashtagNames);
+    List<Hashtag> findByArticles_Id(Long articleId);
+    /**
+     * 이 해시태그가 달린 게시글 수. 삭제 표시만 된 게시글도 센다. (연결이 남아 있으면 해시태그를 지울 수 없으므로)
+     */
+    @RestResource(exported = false)
+    @Query(value = "select count(*) from article_hashtag where hashtag_id = :hashtagId", nativeQuery = true)
+    long countArticleLinks(@Param("hashtagId") Long hashtagId);
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.fastcampus.projectboard.repository;
+
+import com.fastcampus.projectboard.domain.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    List<OutboxEvent> findByOriginAndPublishedAtIsNullAndAttemptsLessThanAndLockedUntilBeforeOrderByIdAsc(String origin, int maxAttempts, LocalDateTime now, Pageable pageable);
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.lockedUntil = :lockedUntil where e.id = :id and e.origin = :origin and e.publishedAt is null and e.lockedUntil < :now")
+    int claim(@Param("id") Long id, @Param("origin") String origin, @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.publishedAt = :publishedAt where e.id = :id")
+    int markPublished(@Param("id") Long id, @Param("publishedAt") LocalDateTime publishedAt);
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.lockedUntil = :retryAt where e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("retryAt") LocalDateTime retryAt);
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent e where e.publishedAt < :publishedAt")
+    int deleteByPublishedAtBefore(@Param("publishedAt") LocalDateTime publishedAt);
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent e where e.publishedAt is null and e.createdAt < :createdAt")
+    int deleteUnpublishedByCreatedAtBefore(@Param("createdAt") LocalDateTime createdAt);
+}
@@ -0,0 +1,133 @@
+package com.fastcampus.projectboard.repository.fulltext;
+
+import com.fastcampus.projectboard.config.FullTextSearchConfig.FullTextSearchProperties;
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Repository;
+
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * DB 의 전문 검색 기능으로 게시글 제목/본문을 검색한다.
+ *
+ * <p>
+ * 시작할 때 DB 종류에 맞는 {@link FullTextDialect} 를 고르고, 테이블이 만들어진 뒤 전문 검색 인덱스를 만든다.
+ * 지원하지 않는 DB 이거나, 검색어가 너무 짧거나, 기본 정렬(작성일 내림차순)이 아닌 요청은 빈 값을 돌려주므로 호출하는 쪽에서 LIKE 검색을 쓰면 된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Repository
+public class ArticleFullTextSearch implements InitializingBean {
+
+    private static final List<FullTextDialect> DIALECTS = List.of(
+            new MySqlFullTextDialect(),
+            new PostgreSqlFullTextDialect(),
+            new H2FullTextDialect()
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ArticleRepository articleRepository;
+    private final FullTextSearchProperties properties;
+
+    private FullTextDialect dialect;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        String databaseProductName = JdbcUtils.extractDatabaseMetaData(
+                Objects.requireNonNull(jdbcTemplate.getJdbcTemplate().getDataSource()),
+                DatabaseMetaData::getDatabaseProductName
+        );
+        dialect = DIALECTS.stream()
+                .filter(candidate -> candidate.supports(databaseProductName))
+                .findFirst()
+                .orElse(null);
+        if (dialect == null) {
+            log.info("전문 검색을 지원하지 않는 DB 입니다. LIKE 검색을 사용합니다 - {}", databaseProductName);
+            return;
+        }
+
+        for (String statement : dialect.schemaStatements()) {
+            try {
+                jdbcTemplate.getJdbcTemplate().execute(statement);
+            } catch (DataAccessException e) {
+                log.info("전문 검색 인덱스 생성문을 건너뜁니다 - {}: {}", statement, e.getLocalizedMessage());
+            }
+        }
+    }
+
+    /**
+     * @return 검색 결과. 전문 검색을 쓸 수 없는 요청이면 빈 값
+     */
+    public Optional<Page<Article>> search(FullTextField field, String keyword, Pageable pageable) {
+        String strippedKeyword = keyword.strip();
+        if (dialect == null || strippedKeyword.length() < dialect.minimumKeywordLength() || !isDefaultSort(pageable.getSort())) {
+            return Optional.empty();
+        }
+
+        Map<String, Object> parameters = Map.of(
+                "query", dialect.toQuery(strippedKeyword),
+                "like", "%" + strippedKeyword + "%",
+                "limit", pageable.getPageSize(),
+                "offset", pageable.getOffset()
+        );
+
+        try {
+            List<Long> ids = jdbcTemplate.queryForList(idQuery(field), parameters, Long.class);
+            Map<Long, Article> articles = articleRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Article::getId, Function.identity()));
+            List<Article> content = ids.stream()
+                    .map(articles::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+
+            return Optional.of(PageableExecutionUtils.getPage(
+                    content,
+                    pageable,
+                    () -> Objects.requireNonNull(jdbcTemplate.queryForObject(countQuery(field), parameters, Long.class))
+            ));
+        } catch (DataAccessException e) {
+            log.warn("전문 검색 실패. LIKE 검색을 사용합니다 - {}", e.getLocalizedMessage());
+            return Optional.empty();
+        }
+    }
+
+
+    private String idQuery(FullTextField field) {
+        String order = properties.isRelevanceOrder()
+                ? dialect.relevanceOrder(field).map(relevance -> relevance + ", ").orElse("")
+                : "";
+
+        return "select id from article where deleted_at is null and " + dialect.matchCondition(field)
+                + " order by " + order + "created_at desc, id desc"
+                + " limit :limit offset :offset";
+    }
+
+    private String countQuery(FullTextField field) {
+        return "select count(*) from article where deleted_at is null and " + dialect.matchCondition(field);
+    }
+
+    private static boolean isDefaultSort(Sort sort) {
+        return sort.stream().allMatch(order -> order.getProperty().equals("createdAt") && order.isDescending());
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.fastcampus.projectboard.repository.fulltext;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DB 별 전문 검색 문법.
+ *
+ * <p>
+ * 검색 조건과 정렬식에는 이름 있는 파라미터 {@code :query} (검색식), {@code :like} (LIKE 패턴)를 쓸 수 있다.
+ * 검색 조건은 LIKE 검색과 같은 결과(대소문자 구분 없는 부분 일치)를 돌려줘야 한다. 전문 검색을 쓸 수 있는지에 따라 검색 결과가 달라지면 안 된다.
+ */
+public interface FullTextDialect {
+
+    /**
+     * @param databaseProductName {@link java.sql.DatabaseMetaData#getDatabaseProductName()}
+     */
+    boolean supports(String databaseProductName);
+
+    /**
+     * 테이블이 만들어진 뒤에 실행할 전문 검색 인덱스 생성문. 이미 있어서 실패하는 문장은 무시된다.
+     */
+    List<String> schemaStatements();
+
+    /**
+     * 검색어를 이 DB 의 검색식으로 바꾼다.
+     */
+    String toQuery(String keyword);
+
+    /**
+     * 전문 검색 인덱스로 찾을 수 있는 가장 짧은 검색어 길이. 더 짧으면 LIKE 검색을 쓴다.
+     */
+    int minimumKeywordLength();
+
+    String matchCondition(FullTextField field);
+
+    /**
+     * @return 관련도 내림차순 정렬식. 관련도를 계산하지 못하는 DB 면 빈 값
+     */
+    Optional<String> relevanceOrder(FullTextField field);
+
+}
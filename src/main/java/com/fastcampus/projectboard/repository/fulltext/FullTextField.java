@@ -0,0 +1,17 @@
+package com.fastcampus.projectboard.repository.fulltext;
+
+import lombok.Getter;
+
+/**
+ * 전문 검색을 지원하는 게시글 컬럼
+ */
+public enum FullTextField {
+    TITLE("title"),
+    CONTENT("content");
+
+    @Getter private final String column;
+
+    FullTextField(String column) {
+        this.column = column;
+    }
+}
@@ -0,0 +1,43 @@
+package com.fastcampus.projectboard.repository.fulltext;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 로컬 실행용 H2.
+ * H2 내장 전문 검색({@code FT_SEARCH_DATA})은 단어 단위로만 찾아서 "부트" 로 "스프링부트" 를 찾지 못하므로 쓰지 않고,
+ * LIKE 검색과 같은 부분 일치 조건을 쓴다. 인덱스는 없지만 로컬 데이터 크기에서는 문제가 되지 않는다.
+ */
+public class H2FullTextDialect implements FullTextDialect {
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "H2".equalsIgnoreCase(databaseProductName);
+    }
+
+    @Override
+    public List<String> schemaStatements() {
+        return List.of();
+    }
+
+    @Override
+    public String toQuery(String keyword) {
+        return keyword;
+    }
+
+    @Override
+    public int minimumKeywordLength() {
+        return 1;
+    }
+
+    @Override
+    public String matchCondition(FullTextField field) {
+        return "lower(" + field.getColumn() + ") like lower(:like)";
+    }
+
+    @Override
+    public Optional<String> relevanceOrder(FullTextField field) {
+        return Optional.empty();
+    }
+
+}
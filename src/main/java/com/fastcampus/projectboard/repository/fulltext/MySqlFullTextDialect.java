@@ -0,0 +1,50 @@
+package com.fastcampus.projectboard.repository.fulltext;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MySQL {@code FULLTEXT} 인덱스. 한글은 띄어쓰기로 단어를 나눌 수 없으므로 ngram 파서를 쓰고,
+ * 검색어는 구문 검색({@code "..."})으로 넘겨서 LIKE 의 부분 일치와 비슷하게 동작하게 한다.
+ */
+public class MySqlFullTextDialect implements FullTextDialect {
+
+    /**
+     * MySQL 기본 {@code ngram_token_size}
+     */
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "MySQL".equalsIgnoreCase(databaseProductName);
+    }
+
+    @Override
+    public List<String> schemaStatements() {
+        return List.of(
+                "alter table article add fulltext index ft_article_title (title) with parser ngram",
+                "alter table article add fulltext index ft_article_content (content) with parser ngram"
+        );
+    }
+
+    @Override
+    public String toQuery(String keyword) {
+        return "\"" + keyword.replace("\"", " ") + "\"";
+    }
+
+    @Override
+    public int minimumKeywordLength() {
+        return NGRAM_TOKEN_SIZE;
+    }
+
+    @Override
+    public String matchCondition(FullTextField field) {
+        return "match(" + field.getColumn() + ") against (:query in boolean mode)";
+    }
+
+    @Override
+    public Optional<String> relevanceOrder(FullTextField field) {
+        return Optional.of(matchCondition(field) + " desc");
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.fastcampus.projectboard.repository.fulltext;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PostgreSQL {@code pg_trgm} GIN 인덱스.
+ * {@code tsvector} 검색은 단어 단위로만 일치해서 LIKE 의 부분 일치를 대신할 수 없으므로, 트라이그램 인덱스가 받쳐 주는 {@code ILIKE} 를 쓴다.
+ * 세 글자보다 짧은 검색어는 인덱스 효과가 적지만 결과는 같다. 확장을 만들 권한이 없어도 인덱스 없이 같은 결과를 돌려준다.
+ */
+public class PostgreSqlFullTextDialect implements FullTextDialect {
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "PostgreSQL".equalsIgnoreCase(databaseProductName);
+    }
+
+    @Override
+    public List<String> schemaStatements() {
+        return List.of(
+                // 단어 단위 검색에 쓰던 생성 컬럼. 컬럼과 함께 GIN 인덱스도 지워진다.
+                "alter table article drop column if exists title_search",
+                "alter table article drop column if exists content_search",
+                "create extension if not exists pg_trgm",
+                "create index if not exists ft_article_title_trgm on article using gin (title gin_trgm_ops)",
+                "create index if not exists ft_article_content_trgm on article using gin (content gin_trgm_ops)"
+        );
+    }
+
+    @Override
+    public String toQuery(String keyword) {
+        return keyword;
+    }
+
+    @Override
+    public int minimumKeywordLength() {
+        return 1;
+    }
+
+    @Override
+    public String matchCondition(FullTextField field) {
+        return field.getColumn() + " ilike :like";
+    }
+
+    @Override
+    public Optional<String> relevanceOrder(FullTextField field) {
+        return Optional.of("word_similarity(:query, " + field.getColumn() + ") desc");
+    }
+
+}
@@ -1,11 +1,15 @@
 package com.fastcampus.projectboard.repository.querydsl;
 
 import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.dto.ArticleFeedDto;
+import com.fastcampus.projectboard.dto.ArticleSearchCondition;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ArticleRepositoryCustom {
 
@@ -16,4 +20,47 @@ public interface ArticleRepositoryCustom {
     @Deprecated
     List<String> findAllDistinctHashtags();
     Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 게시글 엔티티와 댓글 목록을 읽지 않고, 게시글 수정 시각과 댓글의 최근 수정 시각, 댓글 수만 조회한다.
+     *
+     * @param articleId 게시글 ID
+     * @return 게시글 버전 정보. 게시글이 없으면 빈 값
+     */
+    Optional<ArticleVersionDto> findVersionById(Long articleId);
+
+    /**
+     * 게시글 ID 내림차순으로, 커서보다 작은 ID 의 게시글 요약을 조회한다. (keyset pagination)
+     *
+     * @param cursor 직전에 받은 마지막 게시글 ID. 첫 페이지면 {@code null}
+     * @param hashtagName 이 해시태그가 달린 게시글만 조회한다. 전체를 조회하면 {@code null}
+     * @param limit 최대 조회 건수
+     * @return 게시글 요약 목록
+     */
+    List<ArticleFeedDto> findFeed(Long cursor, String hashtagName, int limit);
+
+    /**
+     * 검색 조건을 모두 만족하는 게시글을 페이지로 조회한다.
+     */
+    Page<Article> findByCondition(ArticleSearchCondition condition, Pageable pageable);
+
+    /**
+     * 검색 조건을 모두 만족하는 게시글 요약을 게시글 ID 내림차순, 커서 방식으로 조회한다.
+     *
+     * @see #findFeed(Long, String, int)
+     */
+    List<ArticleFeedDto> findFeedByCondition(ArticleSearchCondition condition, Long cursor, int limit);
+
+    /**
+     * 게시글과 그 댓글, 해시태그 연결을 엔티티로 읽지 않고 일괄 삭제 쿼리로 지운다.
+     * 삭제 표시 여부와 상관없이 지우므로, 삭제 표시된 게시글을 정리하는 {@code SoftDeletePurgeService} 가 쓴다.
+     *
+     * <p>
+     * 영속성 컨텍스트를 거치지 않으므로, 이미 읽어 둔 게시글, 댓글 엔티티에는 반영되지 않는다.
+     *
+     * @param articleIds 게시글 ID 목록
+     * @return 지운 게시글 수
+     */
+    long deleteAllWithCommentsByIdIn(Collection<Long> articleIds);
+
+}
@@ -2,8 +2,17 @@ package com.fastcampus.projectboard.repository.querydsl;
 
 import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.QArticle;
+import com.fastcampus.projectboard.domain.QArticleComment;
 import com.fastcampus.projectboard.domain.QHashtag;
+import com.fastcampus.projectboard.domain.QUserAccount;
+import com.fastcampus.projectboard.dto.ArticleFeedDto;
+import com.fastcampus.projectboard.dto.ArticleSearchCondition;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPQLQuery;
+import org.hibernate.query.NativeQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -11,8 +20,16 @@ import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
+
+    private static final String DETACH_CHILD_COMMENTS_SQL = "update article_comment set parent_comment_id = null where article_id in (:articleIds) and parent_comment_id is not null";
+    private static final String DELETE_COMMENTS_SQL = "delete from article_comment where article_id in (:articleIds)";
+    private static final String DELETE_HASHTAG_LINKS_SQL = "delete from article_hashtag where article_id in (:articleIds)";
+    private static final String DELETE_ARTICLES_SQL = "delete from article where id in (:articleIds)";
+
     public ArticleRepositoryCustomImpl() {
         super(Article.class);
     }
@@ -39,4 +56,151 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
         return new PageImpl<>(articles, pageable, query.fetchCount());
     }
 
-}
\ No newline at end of file
+    @Override
+    public Optional<ArticleVersionDto> findVersionById(Long articleId) {
+        QArticle article = QArticle.article;
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return Optional.ofNullable(
+                from(article)
+                        .leftJoin(article.articleComments, articleComment)
+                        .where(article.id.eq(articleId))
+                        .groupBy(article.id, article.modifiedAt)
+                        .select(Projections.constructor(
+                                ArticleVersionDto.class,
+                                article.id,
+                                article.modifiedAt,
+                                articleComment.modifiedAt.max(),
+                                articleComment.count()
+                        ))
+                        .fetchOne()
+        );
+    }
+
+    @Override
+    public List<ArticleFeedDto> findFeed(Long cursor, String hashtagName, int limit) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+        QHashtag hashtag = QHashtag.hashtag;
+
+        JPQLQuery<Article> query = from(article)
+                .innerJoin(article.userAccount, userAccount);
+        if (hashtagName != null) {
+            query.innerJoin(article.hashtags, hashtag)
+                    .where(hashtag.hashtagName.eq(hashtagName));
+        }
+
+        return query
+                .where(cursor == null ? null : article.id.lt(cursor))
+                .orderBy(article.id.desc())
+                .limit(limit)
+                .select(Projections.constructor(
+                        ArticleFeedDto.class,
+                        article.id,
+                        article.title,
+                        article.createdAt,
+                        userAccount.userId,
+                        userAccount.nickname
+                ))
+                .fetch();
+    }
+
+    @Override
+    public Page<Article> findByCondition(ArticleSearchCondition condition, Pageable pageable) {
+        QArticle article = QArticle.article;
+
+        JPQLQuery<Article> query = from(article)
+                .where(toPredicate(condition));
+        List<Article> articles = getQuerydsl().applyPagination(pageable, query).fetch();
+
+        return new PageImpl<>(articles, pageable, query.fetchCount());
+    }
+
+    @Override
+    public List<ArticleFeedDto> findFeedByCondition(ArticleSearchCondition condition, Long cursor, int limit) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        return from(article)
+                .innerJoin(article.userAccount, userAccount)
+                .where(toPredicate(condition), cursor == null ? null : article.id.lt(cursor))
+                .orderBy(article.id.desc())
+                .limit(limit)
+                .select(Projections.constructor(
+                        ArticleFeedDto.class,
+                        article.id,
+                        article.title,
+                        article.createdAt,
+                        userAccount.userId,
+                        userAccount.nickname
+                ))
+                .fetch();
+    }
+
+    /**
+     * 댓글, 해시태그 연결, 게시글 순서로 지운다. (외래 키 순서)
+     * 대댓글은 같은 테이블의 부모 댓글을 가리키고 깊이에 제한이 없으므로, 먼저 부모 연결을 끊어서 댓글을 한 문장으로 지울 수 있게 한다.
+     * 삭제 표시된 행은 엔티티 조회 조건({@code @SQLRestriction})에 걸리므로 네이티브 쿼리로 지우고, 바뀌는 테이블만 2차 캐시에서 비우게 알려 준다.
+     */
+    @Override
+    public long deleteAllWithCommentsByIdIn(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return 0;
+        }
+
+        executeNativeUpdate(DETACH_CHILD_COMMENTS_SQL, articleIds, "article_comment");
+        executeNativeUpdate(DELETE_COMMENTS_SQL, articleIds, "article_comment");
+        executeNativeUpdate(DELETE_HASHTAG_LINKS_SQL, articleIds, "article_hashtag");
+
+        return executeNativeUpdate(DELETE_ARTICLES_SQL, articleIds, "article");
+    }
+
+
+    private int executeNativeUpdate(String sql, Collection<Long> articleIds, String querySpace) {
+        return getEntityManager().createNativeQuery(sql)
+                .setParameter("articleIds", articleIds)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(querySpace)
+                .executeUpdate();
+    }
+
+    /**
+     * 검색 조건을 하나의 where 절로 만든다.
+     * 해시태그는 조인 대신 해시태그마다 {@code exists} 서브쿼리(semi-join)로 걸어서, 게시글 행이 늘어나거나 distinct 가 필요하지 않게 한다.
+     * 작성자는 유저 ID 를 미리 찾아 두었으면 {@code user_id in (...)} 로, 아니면 회원 정보에 대한 부분 일치로 찾는다.
+     */
+    private static Predicate toPredicate(ArticleSearchCondition condition) {
+        QArticle article = QArticle.article;
+        BooleanBuilder where = new BooleanBuilder();
+
+        condition.keywords().forEach(keyword ->
+                where.and(article.title.containsIgnoreCase(keyword).or(article.content.containsIgnoreCase(keyword)))
+        );
+        condition.titleKeywords().forEach(keyword -> where.and(article.title.containsIgnoreCase(keyword)));
+        condition.contentKeywords().forEach(keyword -> where.and(article.content.containsIgnoreCase(keyword)));
+        condition.hashtagNames().forEach(hashtagName ->
+                where.and(article.hashtags.any().hashtagNameNormalized.eq(hashtagName.toLowerCase(Locale.ROOT)))
+        );
+
+        if (condition.authorUserIds() != null) {
+            where.and(article.userAccount.userId.in(condition.authorUserIds()));
+        } else if (!condition.authors().isEmpty()) {
+            BooleanBuilder authors = new BooleanBuilder();
+            condition.authors().forEach(author -> authors.or(
+                    article.userAccount.userId.containsIgnoreCase(author)
+                            .or(article.userAccount.nickname.containsIgnoreCase(author))
+            ));
+            where.and(authors);
+        }
+
+        if (condition.after() != null) {
+            where.and(article.createdAt.goe(condition.after().atStartOfDay()));
+        }
+        if (condition.before() != null) {
+            where.and(article.createdAt.lt(condition.before().atStartOfDay()));
+        }
+
+        return where;
+    }
+
+}
@@ -16,8 +16,10 @@ public class HashTagRepositoryCustomImpl extends QuerydslRepositorySupport imple
     public List<String> findAllHashtagNames() {
         QHashtag hashtag = QHashtag.hashtag;
 
+        // 삭제 표시된 게시글에만 달린 해시태그는 정리되기 전까지 보이지 않게 한다.
         return from(hashtag)
                 .select(hashtag.hashtagName)
+                .where(hashtag.articles.any().deletedAt.isNull())
                 .fetch();
     }
 
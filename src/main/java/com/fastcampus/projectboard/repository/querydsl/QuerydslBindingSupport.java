@@ -0,0 +1,45 @@
+package com.fastcampus.projectboard.repository.querydsl;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.StringPath;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * API 검색 파라미터 바인딩 중 인덱스를 탈 수 있는 조건들.
+ * {@code lower(컬럼) like '%값%'} 대신, 소문자로 저장해 둔 컬럼에 앞부분 일치나 동등 비교를 한다.
+ */
+public final class QuerydslBindingSupport {
+
+    private QuerydslBindingSupport() {}
+
+    public static Optional<Predicate> startsWithNormalized(StringPath normalizedPath, String value) {
+        return Optional.of(normalizedPath.startsWith(normalize(value)));
+    }
+
+    public static Optional<Predicate> equalsNormalized(StringPath normalizedPath, String value) {
+        return Optional.of(normalizedPath.eq(normalize(value)));
+    }
+
+    /**
+     * 값이 하나면 일치, 둘이면 두 값 사이(양 끝 포함)를 찾는다.
+     */
+    public static Optional<Predicate> equalOrBetween(DateTimePath<LocalDateTime> path, Collection<? extends LocalDateTime> values) {
+        return switch (values.size()) {
+            case 1 -> Optional.of(path.eq(values.iterator().next()));
+            case 2 -> Optional.of(path.between(Collections.min(values), Collections.max(values)));
+            default -> Optional.empty();
+        };
+    }
+
+
+    private static String normalize(String value) {
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+}
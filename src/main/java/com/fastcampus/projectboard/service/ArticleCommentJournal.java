@@ -0,0 +1,192 @@
+package com.fastcampus.projectboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 아직 DB 에 저장하지 않은 댓글을 기록하는 로컬 추가 전용 로그.
+ *
+ * <p>
+ * 댓글은 로그에 한 줄(JSON)씩 순번과 함께 추가되고, DB 에 저장되면 마지막으로 저장된 순번을 체크포인트 파일에 남긴다.
+ * 재시작하면 체크포인트 이후의 댓글만 다시 꺼내 저장한다. 저장한 뒤 체크포인트를 남기기 전에 죽으면 같은 댓글이 한 번 더 저장될 수 있다. (at-least-once)
+ * 밀린 댓글이 모두 저장되면 로그를 비운다. 댓글이 계속 들어와서 로그가 비지 않더라도, 로그가 {@code compactThreshold} 보다 커지면
+ * 저장되지 않은 댓글만 새 파일에 옮겨 쓰고 바꿔 끼운다.
+ */
+@Slf4j
+public class ArticleCommentJournal implements Closeable {
+
+    private static final long DEFAULT_COMPACT_THRESHOLD = 4L * 1024 * 1024;
+
+    private final Path logFile;
+    private final Path checkpointFile;
+    private final ObjectMapper objectMapper;
+    private final boolean syncOnWrite;
+    private final long compactThreshold;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private FileChannel channel;
+
+    private long lastSequence;
+    private long committedSequence;
+
+    public ArticleCommentJournal(Path directory, ObjectMapper objectMapper, boolean syncOnWrite) throws IOException {
+        this(directory, objectMapper, syncOnWrite, DEFAULT_COMPACT_THRESHOLD);
+    }
+
+    /**
+     * @param compactThreshold 로그가 이 크기(바이트)를 넘으면 체크포인트를 남길 때 저장된 댓글을 걸러 낸다.
+     */
+    public ArticleCommentJournal(Path directory, ObjectMapper objectMapper, boolean syncOnWrite, long compactThreshold) throws IOException {
+        Files.createDirectories(directory);
+        this.logFile = directory.resolve("article-comments.log");
+        this.checkpointFile = directory.resolve("article-comments.checkpoint");
+        this.objectMapper = objectMapper;
+        this.syncOnWrite = syncOnWrite;
+        this.compactThreshold = compactThreshold;
+        this.channel = openChannel();
+        this.committedSequence = Files.exists(checkpointFile) ? Long.parseLong(Files.readString(checkpointFile).strip()) : 0L;
+        this.lastSequence = committedSequence;
+    }
+
+    /**
+     * @return 로그에 남아 있지만 아직 저장되지 않은 댓글. 순번 순서대로 정렬되어 있다.
+     */
+    public List<Entry> recover() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(logFile, StandardCharsets.UTF_8)) {
+            Entry entry = readEntry(line);
+            if (entry == null) {
+                continue;
+            }
+            lastSequence = Math.max(lastSequence, entry.sequence());
+            if (entry.sequence() > committedSequence) {
+                entries.add(entry);
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * 댓글을 로그에 추가한다. {@code afterAppend} 는 로그와 같은 순서가 보장되도록 같은 락 안에서 호출된다.
+     */
+    public Entry append(Long articleId, String userId, Long parentCommentId, String content, LocalDateTime createdAt, Consumer<Entry> afterAppend) throws IOException {
+        lock.lock();
+        try {
+            Entry entry = new Entry(lastSequence + 1, articleId, userId, parentCommentId, content, createdAt);
+            ByteBuffer buffer = ByteBuffer.wrap((objectMapper.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (syncOnWrite) {
+                channel.force(false);
+            }
+            lastSequence = entry.sequence();
+            afterAppend.accept(entry);
+
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 이 순번까지 DB 에 저장되었음을 남긴다.
+     */
+    public void commit(long sequence) throws IOException {
+        lock.lock();
+        try {
+            if (sequence <= committedSequence) {
+                return;
+            }
+
+            Path temporaryFile = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+            Files.writeString(temporaryFile, Long.toString(sequence));
+            Files.move(temporaryFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committedSequence = sequence;
+
+            if (committedSequence == lastSequence) {
+                channel.truncate(0);
+            } else if (channel.size() > compactThreshold) {
+                compact();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+
+    private FileChannel openChannel() throws IOException {
+        return FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * 저장되지 않은 댓글만 임시 파일에 옮겨 쓰고 로그와 바꿔 끼운다. 바꿔 끼우기 전에 죽어도 원래 로그가 그대로 남는다.
+     * {@link #append} 와 같은 락 안에서 불러야 한다.
+     */
+    private void compact() throws IOException {
+        Path temporaryFile = logFile.resolveSibling(logFile.getFileName() + ".tmp");
+        StringBuilder remaining = new StringBuilder();
+        for (String line : Files.readAllLines(logFile, StandardCharsets.UTF_8)) {
+            Entry entry = readEntry(line);
+            if (entry != null && entry.sequence() > committedSequence) {
+                remaining.append(line).append('\n');
+            }
+        }
+
+        try (FileChannel temporaryChannel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(remaining.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                temporaryChannel.write(buffer);
+            }
+            temporaryChannel.force(true);
+        }
+        channel.close();
+        Files.move(temporaryFile, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = openChannel();
+    }
+
+    private Entry readEntry(String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(line, Entry.class);
+        } catch (IOException e) {
+            log.warn("댓글 로그의 손상된 줄을 건너뜁니다 - {}", e.getLocalizedMessage());
+            return null;
+        }
+    }
+
+
+    public record Entry(
+            long sequence,
+            Long articleId,
+            String userId,
+            Long parentCommentId,
+            String content,
+            LocalDateTime createdAt
+    ) {}
+
+}
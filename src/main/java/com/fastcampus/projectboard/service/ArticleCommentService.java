@@ -3,27 +3,38 @@ package com.fastcampus.projectboard.service;
 import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.constant.ChangeLogType;
+import com.fastcampus.projectboard.domain.event.CommentAdded;
+import com.fastcampus.projectboard.domain.event.CommentDeleted;
 import com.fastcampus.projectboard.dto.ArticleCommentDto;
 import com.fastcampus.projectboard.repository.ArticleCommentRepository;
 import com.fastcampus.projectboard.repository.ArticleRepository;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "board.service", histogram = true)
 @Service
 public class ArticleCommentService {
 
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ArticleCommentWriteBehindService articleCommentWriteBehindService;
+    private final ChangeLogService changeLogService;
+    private final DomainEventService domainEventService;
 
     @Transactional(readOnly = true)
     public List<ArticleCommentDto> searchArticleComments(Long articleId) {
@@ -34,6 +45,11 @@ public class ArticleCommentService {
     }
 
     public void saveArticleComment(ArticleCommentDto dto) {
+        if (articleCommentWriteBehindService.isEnabled()) {
+            articleCommentWriteBehindService.enqueue(dto);
+            return;
+        }
+
         try {
             Article article = articleRepository.getReferenceById(dto.articleId());
             UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
@@ -45,13 +61,43 @@ public class ArticleCommentService {
             } else {
                 articleCommentRepository.save(articleComment);
             }
+            changeLogService.record(ChangeLogType.ARTICLE_COMMENT, articleComment.getId(), dto.articleId(), Set.of());
+            domainEventService.publish(new CommentAdded(dto.articleId(), articleComment.getId()));
         } catch (EntityNotFoundException e) {
             log.warn("댓글 저장 실패. 댓글 작성에 필요한 정보를 찾을 수 없습니다 - {}", e.getLocalizedMessage());
         }
     }
 
+    /**
+     * 댓글과 그 아래 모든 대댓글에 삭제 표시만 한다. 실제로 지우는 일은 {@link SoftDeletePurgeService} 가 한다.
+     */
     public void deleteArticleComment(Long articleCommentId, String userId) {
-        articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        // 삭제 표시를 한 뒤에는 조회되지 않으므로, 변경 기록에 남길 게시글 ID 를 먼저 찾아 둔다.
+        Optional<Long> articleId = articleCommentRepository.findArticleIdById(articleCommentId);
+        LocalDateTime now = LocalDateTime.now();
+        if (articleId.isEmpty() || articleCommentRepository.softDeleteByIdAndUserId(articleCommentId, userId, now) == 0) {
+            return;
+        }
+
+        softDeleteReplies(articleCommentId, now);
+        changeLogService.record(ChangeLogType.ARTICLE_COMMENT, articleCommentId, articleId.get(), Set.of());
+        domainEventService.publish(new CommentDeleted(articleCommentId, userId));
+    }
+
+
+    /**
+     * 대댓글에도 답글을 달 수 있으므로, 더 이상 표시할 대댓글이 없을 때까지 한 단계씩 내려가며 삭제 표시한다.
+     * 이미 삭제 표시된 대댓글은 조회되지 않으므로 같은 댓글을 두 번 보지 않는다.
+     */
+    private void softDeleteReplies(Long articleCommentId, LocalDateTime deletedAt) {
+        List<Long> parentCommentIds = List.of(articleCommentId);
+        while (!parentCommentIds.isEmpty()) {
+            List<Long> childCommentIds = articleCommentRepository.findIdsByParentCommentIdIn(parentCommentIds);
+            if (!childCommentIds.isEmpty()) {
+                articleCommentRepository.softDeleteByIdIn(childCommentIds, deletedAt);
+            }
+            parentCommentIds = childCommentIds;
+        }
     }
 
 }
\ No newline at end of file
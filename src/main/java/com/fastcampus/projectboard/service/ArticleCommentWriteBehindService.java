@@ -0,0 +1,333 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.CommentIngestionConfig.CommentIngestionProperties;
+import com.fastcampus.projectboard.domain.constant.ChangeLogType;
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.repository.ArticleCommentRepository;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.service.ArticleCommentJournal.Entry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글을 요청 스레드에서 바로 저장하지 않고, 큐에 모아 두었다가 한 트랜잭션에 묶어서 저장한다.
+ *
+ * <p>
+ * 요청 스레드는 댓글 내용, 게시글, 작성자, 부모 댓글을 모두 확인한 뒤에 댓글을 로컬 로그({@link ArticleCommentJournal})에 남기고 바로 돌아간다.
+ * 확인에 실패하면 로그에 남기지 않고 400 으로 거절한다.
+ * 저장 스레드 하나가 큐에서 댓글을 최대 {@code batch-size} 건씩 꺼내 JDBC 배치 insert 로 저장한다.
+ * 큐가 가득 차면 요청이 {@code enqueue-timeout} 만큼 기다리고, 그래도 자리가 없으면 503 으로 거절한다.
+ * 저장된 댓글은 다음 화면 요청부터 보인다.
+ * 확인한 뒤 저장하기 전에 게시글이 지워지는 등으로 결국 저장하지 못한 댓글은 내용과 함께 에러 로그로 남기고 {@value #DROPPED_METRIC} 로 센다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleCommentWriteBehindService {
+
+    private static final String INSERT_SQL = """
+            insert into article_comment (article_id, user_id, parent_comment_id, content, created_at, created_by, created_by_normalized, modified_at, modified_by)
+            values (?, ?, ?, ?, ?, ?, lower(?), ?, ?)
+            """;
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+    private static final int MAX_CONTENT_LENGTH = 500;
+    static final String DROPPED_METRIC = "board.comment-ingestion.dropped";
+
+    private final CommentIngestionProperties properties;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ArticleFragmentService articleFragmentService;
+    private final TrendingService trendingService;
+    private final ChangeLogService changeLogService;
+    private final MeterRegistry meterRegistry;
+
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private Semaphore capacity;
+    private ArticleCommentJournal journal;
+    private Thread worker;
+    private volatile boolean running;
+
+    public boolean isEnabled() {
+        return properties.isWriteBehind();
+    }
+
+    @PostConstruct
+    void openJournal() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+
+        journal = new ArticleCommentJournal(
+                Path.of(properties.getJournalDirectory()),
+                objectMapper,
+                properties.isSyncOnWrite(),
+                properties.getJournalCompactThreshold().toBytes()
+        );
+        List<Entry> recovered = journal.recover();
+        queue.addAll(recovered);
+        capacity = new Semaphore(properties.getQueueCapacity() - recovered.size());
+        if (!recovered.isEmpty()) {
+            log.info("저장되지 않은 댓글 {}건을 로그에서 복구했습니다.", recovered.size());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        running = true;
+        worker = new Thread(this::drain, "article-comment-write-behind");
+        worker.start();
+    }
+
+    /**
+     * 큐에 남은 댓글을 저장하게 두고, 저장 스레드가 끝난 뒤에 로그를 닫는다.
+     * 기다려도 끝나지 않으면 인터럽트하고, 그래도 끝나지 않으면 저장 중인 로그를 닫지 않고 그대로 둔다.
+     */
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        if (journal == null) {
+            return;
+        }
+
+        running = false;
+        if (worker != null) {
+            long timeoutMillis = properties.getPollInterval().multipliedBy(10).toMillis();
+            worker.join(timeoutMillis);
+            if (worker.isAlive()) {
+                worker.interrupt();
+                worker.join(timeoutMillis);
+            }
+            if (worker.isAlive()) {
+                log.warn("댓글 저장 스레드가 끝나지 않아 댓글 로그를 닫지 않습니다. 저장하지 못한 댓글은 다음 시작 때 로그에서 복구합니다.");
+                return;
+            }
+        }
+        if (!queue.isEmpty()) {
+            log.warn("저장하지 못한 댓글 {}건은 다음 시작 때 로그에서 복구합니다.", queue.size());
+        }
+        journal.close();
+    }
+
+    /**
+     * 저장할 수 있는 댓글인지 확인하고 저장 큐에 넣는다.
+     *
+     * @throws ResponseStatusException 내용이 비었거나 너무 길거나, 게시글, 작성자, 같은 게시글의 부모 댓글을 찾을 수 없는 경우 (400).
+     *                                 큐가 가득 차서 {@code enqueue-timeout} 안에 자리가 나지 않은 경우 (503)
+     */
+    public void enqueue(ArticleCommentDto dto) {
+        validate(dto);
+        acquire();
+        try {
+            journal.append(
+                    dto.articleId(),
+                    dto.userAccountDto().userId(),
+                    dto.parentCommentId(),
+                    dto.content(),
+                    LocalDateTime.now(),
+                    queue::add
+            );
+        } catch (IOException e) {
+            capacity.release();
+            throw new UncheckedIOException("댓글을 로그에 기록하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * @return 저장을 기다리는 댓글 수
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+
+    private void validate(ArticleCommentDto dto) {
+        String content = dto.content();
+        if (content == null || content.isBlank() || content.length() > MAX_CONTENT_LENGTH) {
+            throw reject(dto, "댓글은 1자 이상 " + MAX_CONTENT_LENGTH + "자 이하로 써 주세요.");
+        }
+        if (dto.articleId() == null || !articleRepository.existsById(dto.articleId())) {
+            throw reject(dto, "게시글을 찾을 수 없습니다.");
+        }
+        if (dto.userAccountDto() == null || !userAccountRepository.existsById(dto.userAccountDto().userId())) {
+            throw reject(dto, "작성자를 찾을 수 없습니다.");
+        }
+        if (dto.parentCommentId() != null && !articleCommentRepository.existsByIdAndArticle_Id(dto.parentCommentId(), dto.articleId())) {
+            throw reject(dto, "부모 댓글을 찾을 수 없습니다.");
+        }
+    }
+
+    private static ResponseStatusException reject(ArticleCommentDto dto, String reason) {
+        log.warn("댓글 저장 실패. {} - articleId: {}, parentCommentId: {}", reason, dto.articleId(), dto.parentCommentId());
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, reason);
+    }
+
+    private void acquire() {
+        try {
+            if (capacity.tryAcquire(properties.getEnqueueTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "댓글 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private void drain() {
+        List<Entry> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(properties.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+
+                if (!persist(batch)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 댓글 묶음을 저장하고 로그에 체크포인트를 남긴다.
+     * DB 에 일시적인 문제가 있으면 저장될 때까지 다시 시도하고, 종료 중이라면 로그에 남겨 둔 채로 포기한다.
+     *
+     * @return 저장에 성공했으면 {@code true}
+     */
+    private boolean persist(List<Entry> batch) throws InterruptedException {
+        long lastSequence = batch.get(batch.size() - 1).sequence();
+        List<Entry> remaining = new ArrayList<>(batch);
+        List<Entry> saved = new ArrayList<>(batch.size());
+
+        while (true) {
+            try {
+                insert(remaining, saved);
+                break;
+            } catch (DataAccessException e) {
+                if (!running) {
+                    log.warn("종료 중이라 댓글 {}건의 저장을 다음 시작으로 미룹니다 - {}", remaining.size(), e.getLocalizedMessage());
+                    return false;
+                }
+                log.warn("댓글 {}건 저장 실패. 잠시 후 다시 시도합니다 - {}", remaining.size(), e.getLocalizedMessage());
+                Thread.sleep(RETRY_BACKOFF.toMillis());
+            }
+        }
+
+        try {
+            journal.commit(lastSequence);
+        } catch (IOException e) {
+            log.error("댓글 로그의 체크포인트를 남기지 못했습니다. 재시작하면 일부 댓글이 중복 저장될 수 있습니다.", e);
+        }
+        capacity.release(batch.size());
+
+        saved.stream()
+                .map(Entry::articleId)
+                .distinct()
+                .forEach(articleFragmentService::evict);
+        saved.forEach(entry -> trendingService.recordCommentAdded(entry.articleId()));
+
+        return true;
+    }
+
+    /**
+     * 묶음 전체를 배치 insert 한다. 제약 조건을 어기는 댓글이 섞여 있으면 한 건씩 저장하며 그 댓글만 버린다.
+     * 저장된 댓글은 {@code entries} 에서 빠져 {@code saved} 로 옮겨지므로, 예외가 나면 남은 댓글만 다시 시도하면 된다.
+     */
+    private void insert(List<Entry> entries, List<Entry> saved) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), ArticleCommentWriteBehindService::bind);
+                recordChanges(entries);
+            });
+            saved.addAll(entries);
+            entries.clear();
+            return;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("댓글 일괄 저장 실패. 한 건씩 다시 저장합니다 - {}", e.getLocalizedMessage());
+        }
+
+        Iterator<Entry> iterator = entries.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, entry));
+                    recordChanges(List.of(entry));
+                });
+                saved.add(entry);
+            } catch (DataIntegrityViolationException e) {
+                meterRegistry.counter(DROPPED_METRIC).increment();
+                log.error("이미 접수한 댓글을 저장하지 못해 버립니다 - {}, {}", entry, e.getLocalizedMessage());
+            }
+            iterator.remove();
+        }
+    }
+
+    private void recordChanges(List<Entry> entries) {
+        entries.stream()
+                .map(Entry::articleId)
+                .distinct()
+                .forEach(articleId -> changeLogService.record(ChangeLogType.ARTICLE_COMMENT, null, articleId, Set.of()));
+    }
+
+    private static void bind(PreparedStatement ps, Entry entry) throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(entry.createdAt());
+        ps.setLong(1, entry.articleId());
+        ps.setString(2, entry.userId());
+        ps.setObject(3, entry.parentCommentId(), Types.BIGINT);
+        ps.setString(4, entry.content());
+        ps.setTimestamp(5, createdAt);
+        ps.setString(6, entry.userId());
+        ps.setString(7, entry.userId());
+        ps.setTimestamp(8, createdAt);
+        ps.setString(9, entry.userId());
+    }
+
+}
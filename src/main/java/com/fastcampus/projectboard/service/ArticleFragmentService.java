@@ -0,0 +1,178 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.domain.event.ArticleDeleted;
+import com.fastcampus.projectboard.domain.event.ArticleUpdated;
+import com.fastcampus.projectboard.domain.event.CommentAdded;
+import com.fastcampus.projectboard.dto.ArticleFragmentsDto;
+import com.fastcampus.projectboard.dto.ChangeLogDto;
+import com.fastcampus.projectboard.dto.response.ArticleCommentResponse;
+import com.fastcampus.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 상세 페이지의 본문과 댓글 트리를 HTML 조각으로 렌더링해서 게시글 버전별로 캐시한다.
+ *
+ * <p>
+ * 캐시된 조각은 모든 사용자가 함께 쓰므로 사용자마다 다른 부분은 자리표시자로 남겨 두고, 응답 직전에 채운다.
+ * <ul>
+ *     <li>댓글 폼의 CSRF 토큰: 공유 조각에는 HTML 주석만 남기고, 현재 요청의 토큰으로 hidden input 을 만들어 넣는다.</li>
+ *     <li>댓글 삭제 폼: 공유 조각에는 댓글 ID 만 담긴 HTML 주석을 남기고, 작성자 ID 가 로그인 사용자와 같은 댓글에만 폼을 렌더링해 넣는다.</li>
+ * </ul>
+ * 자리표시자는 모두 HTML 주석이다. 사용자가 쓴 댓글 내용은 이스케이프되어 {@code <} 가 남지 않으므로, 댓글에 같은 글자를 적어도 바뀌지 않는다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ArticleFragmentService {
+
+    private static final String ARTICLE_BODY_TEMPLATE = "articles/fragments/article-body";
+    private static final String ARTICLE_COMMENTS_TEMPLATE = "articles/fragments/article-comments";
+    private static final String COMMENT_DELETE_FORM_TEMPLATE = "articles/fragments/comment-delete-form";
+    private static final Pattern OWNER_CONTROLS_PLACEHOLDER = Pattern.compile("<!--owner-controls:(\\d+)-->");
+    private static final String CSRF_INPUT_PLACEHOLDER = "<!--csrf-input-->";
+
+    private final ITemplateEngine templateEngine;
+    private final Cache<Long, ArticleFragmentsDto> articleFragmentCache;
+
+    /**
+     * 게시글 버전에 맞는 화면 조각을 캐시에서 꺼내거나 새로 렌더링한 뒤, 현재 사용자에 맞게 채워서 반환한다.
+     *
+     * @param versionTag 게시글 버전. 없으면 캐시하지 않고 렌더링만 한다.
+     * @param article 렌더링할 게시글
+     * @param username 로그인 사용자 ID
+     * @param csrfToken 현재 요청의 CSRF 토큰
+     */
+    public ArticleFragmentsDto getFragments(String versionTag, ArticleWithCommentsResponse article, String username, CsrfToken csrfToken) {
+        ArticleFragmentsDto fragments = getSharedFragments(versionTag, article);
+
+        return ArticleFragmentsDto.of(
+                fragments.versionTag(),
+                fragments.bodyHtml(),
+                personalize(fragments.commentsHtml(), article, username, csrfToken)
+        );
+    }
+
+    public void evict(Long articleId) {
+        articleFragmentCache.invalidate(articleId);
+    }
+
+    @EventListener
+    public void onArticleUpdated(ArticleUpdated event) {
+        evict(event.articleId());
+    }
+
+    @EventListener
+    public void onArticleDeleted(ArticleDeleted event) {
+        evict(event.articleId());
+    }
+
+    @EventListener
+    public void onCommentAdded(CommentAdded event) {
+        evict(event.articleId());
+    }
+
+    /**
+     * 다른 서버에서 게시글이나 댓글이 바뀌면 조각을 버린다. 조각은 버전으로 검증하므로 꼭 필요하진 않지만, 오래된 조각이 메모리를 차지하지 않게 한다.
+     */
+    @EventListener
+    public void onChange(ChangeLogDto change) {
+        if (change.articleId() != null) {
+            evict(change.articleId());
+        }
+    }
+
+
+    private ArticleFragmentsDto getSharedFragments(String versionTag, ArticleWithCommentsResponse article) {
+        if (versionTag == null) {
+            return render(null, article);
+        }
+
+        ArticleFragmentsDto cached = articleFragmentCache.getIfPresent(article.id());
+        if (cached != null && versionTag.equals(cached.versionTag())) {
+            return cached;
+        }
+
+        ArticleFragmentsDto rendered = render(versionTag, article);
+        articleFragmentCache.put(article.id(), rendered);
+
+        return rendered;
+    }
+
+    private ArticleFragmentsDto render(String versionTag, ArticleWithCommentsResponse article) {
+        Context context = new Context(LocaleContextHolder.getLocale());
+        context.setVariable("article", article);
+        context.setVariable("articleId", article.id());
+        context.setVariable("articleComments", article.articleCommentsResponse());
+        context.setVariable("searchTypeHashtag", SearchType.HASHTAG);
+
+        return ArticleFragmentsDto.of(
+                versionTag,
+                templateEngine.process(ARTICLE_BODY_TEMPLATE, Set.of("#article-body"), context),
+                templateEngine.process(ARTICLE_COMMENTS_TEMPLATE, Set.of("#article-comments"), context)
+        );
+    }
+
+    private String personalize(String commentsHtml, ArticleWithCommentsResponse article, String username, CsrfToken csrfToken) {
+        String html = commentsHtml.replace(CSRF_INPUT_PLACEHOLDER, renderCsrfInput(csrfToken));
+
+        Set<Long> ownedCommentIds = new HashSet<>();
+        if (username != null) {
+            collectOwnedCommentIds(article.articleCommentsResponse(), username, ownedCommentIds);
+        }
+
+        Matcher matcher = OWNER_CONTROLS_PLACEHOLDER.matcher(html);
+        StringBuilder personalized = new StringBuilder(html.length());
+        while (matcher.find()) {
+            Long articleCommentId = Long.valueOf(matcher.group(1));
+            String ownerControls = ownedCommentIds.contains(articleCommentId)
+                    ? renderDeleteForm(article.id(), articleCommentId, csrfToken)
+                    : "";
+            matcher.appendReplacement(personalized, Matcher.quoteReplacement(ownerControls));
+        }
+        matcher.appendTail(personalized);
+
+        return personalized.toString();
+    }
+
+    private void collectOwnedCommentIds(Set<ArticleCommentResponse> articleComments, String username, Set<Long> ownedCommentIds) {
+        for (ArticleCommentResponse articleComment : articleComments) {
+            if (username.equals(articleComment.userId())) {
+                ownedCommentIds.add(articleComment.id());
+            }
+            collectOwnedCommentIds(articleComment.childComments(), username, ownedCommentIds);
+        }
+    }
+
+    private static String renderCsrfInput(CsrfToken csrfToken) {
+        if (csrfToken == null) {
+            return "";
+        }
+
+        return "<input type=\"hidden\" name=\"" + HtmlUtils.htmlEscape(csrfToken.getParameterName())
+                + "\" value=\"" + HtmlUtils.htmlEscape(csrfToken.getToken()) + "\">";
+    }
+
+    private String renderDeleteForm(Long articleId, Long articleCommentId, CsrfToken csrfToken) {
+        Context context = new Context(LocaleContextHolder.getLocale());
+        context.setVariable("articleId", articleId);
+        context.setVariable("articleCommentId", articleCommentId);
+        context.setVariable("csrfParameterName", csrfToken == null ? "" : csrfToken.getParameterName());
+        context.setVariable("csrfToken", csrfToken == null ? "" : csrfToken.getToken());
+
+        return templateEngine.process(COMMENT_DELETE_FORM_TEMPLATE, Set.of(".comment-delete-form"), context);
+    }
+
+}
@@ -0,0 +1,228 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.IndexSnapshotConfig.IndexSnapshotProperties;
+import com.fastcampus.projectboard.domain.constant.ChangeLogType;
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.domain.event.ArticleCreated;
+import com.fastcampus.projectboard.domain.event.ArticleDeleted;
+import com.fastcampus.projectboard.domain.event.ArticleUpdated;
+import com.fastcampus.projectboard.dto.ChangeLogDto;
+import com.fastcampus.projectboard.dto.TrendingHashtagDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 비로그인 사용자가 보는 게시글 목록 앞쪽 몇 페이지를 미리 렌더링해 둔다.
+ *
+ * <p>
+ * 기본 정렬의 게시글 목록과 인기 해시태그별 게시글 목록이 대상이다.
+ * 렌더링은 자기 자신에게 비로그인 요청을 보내서 받은 HTML 을 그대로 저장하므로, 실제 화면과 똑같다.
+ * 게시글이 바뀌면 커밋 뒤에 다시 렌더링을 예약하고, {@code debounce} 동안 들어온 변경은 한 번의 렌더링으로 합친다.
+ * 다시 렌더링하는 동안에는 이전 스냅샷을 계속 보여준다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleIndexSnapshotService implements DisposableBean {
+
+    /**
+     * 스냅샷을 만들기 위한 요청임을 표시하는 헤더.
+     * 값이 이 프로세스만 아는 토큰과 같을 때만 스냅샷 대신 실제로 렌더링하므로, 외부 요청이 이 헤더로 스냅샷을 우회할 수는 없다.
+     */
+    public static final String RENDER_HEADER = "X-Index-Snapshot-Render";
+
+    private static final Duration RENDER_TIMEOUT = Duration.ofSeconds(10);
+
+    private final IndexSnapshotProperties properties;
+    private final TrendingService trendingService;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(RENDER_TIMEOUT).build();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "article-index-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final byte[] renderToken = newRenderToken();
+
+    private volatile Map<String, byte[]> snapshots = Map.of();
+    private volatile int port = -1;
+
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        if (event.getApplicationContext().getServerNamespace() == null) {
+            port = event.getWebServer().getPort();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        requestRebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${board.index-snapshot.refresh-interval}")
+    public void refresh() {
+        requestRebuild();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled() && port > 0;
+    }
+
+    /**
+     * @param token {@link #RENDER_HEADER} 헤더 값
+     * @return 이 서비스가 스냅샷을 만들려고 보낸 요청이면 {@code true}
+     */
+    public boolean isRenderRequest(String token) {
+        return token != null && MessageDigest.isEqual(renderToken, token.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @param hashtagName 해시태그별 게시글 목록이면 해시태그 이름, 기본 게시글 목록이면 {@code null}
+     * @param page 0 부터 시작하는 페이지 번호
+     * @return 미리 렌더링된 HTML. 아직 없거나 대상이 아니면 빈 값
+     */
+    public Optional<byte[]> getSnapshot(String hashtagName, int page) {
+        return Optional.ofNullable(snapshots.get(key(hashtagName, page)));
+    }
+
+    /**
+     * 스냅샷을 다시 만들도록 예약한다. 트랜잭션 안에서 부르면 커밋된 뒤에 예약한다.
+     */
+    public void requestRebuild() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleRebuild();
+                }
+            });
+        } else {
+            scheduleRebuild();
+        }
+    }
+
+    @EventListener({ArticleCreated.class, ArticleUpdated.class, ArticleDeleted.class})
+    public void onArticleChanged() {
+        requestRebuild();
+    }
+
+    /**
+     * 다른 서버에서 게시글이 바뀌어도 스냅샷을 다시 만든다.
+     */
+    @EventListener
+    public void onChange(ChangeLogDto change) {
+        if (change.entityType() == ChangeLogType.ARTICLE) {
+            requestRebuild();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+
+    private void scheduleRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::rebuild, properties.getDebounce().toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void rebuild() {
+        // 렌더링 도중 들어온 변경은 다음 렌더링으로 예약되도록 먼저 풀어 둔다.
+        rebuildScheduled.set(false);
+        try {
+            Map<String, byte[]> rebuilt = new HashMap<>();
+            renderPages(null, rebuilt);
+            trendingService.getTrendingHashtags().stream()
+                    .limit(properties.getHashtags())
+                    .map(TrendingHashtagDto::hashtagName)
+                    .forEach(hashtagName -> renderPages(hashtagName, rebuilt));
+
+            snapshots = Map.copyOf(rebuilt);
+            log.debug("게시글 목록 스냅샷 {}개를 다시 만들었습니다.", rebuilt.size());
+        } catch (RuntimeException e) {
+            log.warn("게시글 목록 스냅샷을 만들지 못했습니다 - {}", e.getLocalizedMessage());
+        }
+    }
+
+    private void renderPages(String hashtagName, Map<String, byte[]> rebuilt) {
+        for (int page = 0; page < properties.getPages(); page++) {
+            int currentPage = page;
+            render(hashtagName, page).ifPresent(html -> rebuilt.put(key(hashtagName, currentPage), html));
+        }
+    }
+
+    private Optional<byte[]> render(String hashtagName, int page) {
+        String query = hashtagName == null
+                ? "page=" + page
+                : "searchType=" + SearchType.HASHTAG.name() + "&searchValue=" + URLEncoder.encode(hashtagName, StandardCharsets.UTF_8) + "&page=" + page;
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/articles?" + query))
+                .header(RENDER_HEADER, new String(renderToken, StandardCharsets.US_ASCII))
+                .timeout(RENDER_TIMEOUT)
+                .GET()
+                .build();
+
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                return Optional.empty();
+            }
+            // 세션 ID 가 URL 에 붙어서 렌더링되었다면 다른 사용자와 함께 쓸 수 없다.
+            if (new String(response.body(), StandardCharsets.UTF_8).contains(";jsessionid=")) {
+                return Optional.empty();
+            }
+
+            return Optional.of(response.body());
+        } catch (IOException e) {
+            log.warn("게시글 목록을 렌더링하지 못했습니다 - {}: {}", query, e.getLocalizedMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] newRenderToken() {
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return Base64.getUrlEncoder().withoutPadding().encode(random);
+    }
+
+    private static String key(String hashtagName, int page) {
+        return (hashtagName == null ? "" : hashtagName) + "#" + page;
+    }
+
+}
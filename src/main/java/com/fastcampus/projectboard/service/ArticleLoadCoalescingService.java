@@ -0,0 +1,92 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.CoalescingConfig.CoalescingProperties;
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.util.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 상세, 목록 조회 앞에서 같은 조회를 동시에 요청한 것들을 하나로 합친다.
+ *
+ * <p>
+ * 인기 게시글에 요청이 몰리면 모든 요청이 같은 댓글 트리를 각자 DB 에서 읽는다.
+ * 여기서는 먼저 들어온 요청 하나만 {@link ArticleService} 를 부르고, 나머지는 그 결과를 함께 쓴다.
+ * 기다리는 요청이 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 합친다.
+ * 합쳐진 요청 수는 {@code board.coalescing.coalesced} 지표로 조회 종류({@code load} 태그)별로 본다.
+ */
+@Service
+public class ArticleLoadCoalescingService {
+
+    static final String COALESCED_METRIC = "board.coalescing.coalesced";
+
+    private final ArticleService articleService;
+    private final CoalescingProperties properties;
+    private final SingleFlight<ArticleKey, ArticleWithCommentsDto> articleFlight;
+    private final SingleFlight<SearchKey, Page<ArticleDto>> searchFlight;
+    private final SingleFlight<SearchKey, Page<ArticleDto>> hashtagSearchFlight;
+
+    public ArticleLoadCoalescingService(ArticleService articleService, CoalescingProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.articleService = articleService;
+        this.properties = properties;
+        this.articleFlight = new SingleFlight<>(properties.getTimeout());
+        this.searchFlight = new SingleFlight<>(properties.getTimeout());
+        this.hashtagSearchFlight = new SingleFlight<>(properties.getTimeout());
+        meterRegistry.ifAvailable(registry -> {
+            registerCoalescedCounter(registry, "article", articleFlight);
+            registerCoalescedCounter(registry, "search", searchFlight);
+            registerCoalescedCounter(registry, "hashtag-search", hashtagSearchFlight);
+        });
+    }
+
+    /**
+     * @param versionTag 요청이 확인한 게시글 버전. 버전이 다른 요청끼리는 합치지 않아서, 수정 직후의 요청이 수정 전에 시작된 조회 결과를 받지 않게 한다.
+     */
+    public ArticleWithCommentsDto getArticleWithComments(Long articleId, String versionTag) {
+        if (!properties.isEnabled()) {
+            return articleService.getArticleWithComments(articleId);
+        }
+
+        return articleFlight.execute(new ArticleKey(articleId, versionTag), () -> articleService.getArticleWithComments(articleId));
+    }
+
+    public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+        if (!properties.isEnabled()) {
+            return articleService.searchArticles(searchType, searchKeyword, pageable);
+        }
+
+        return searchFlight.execute(
+                new SearchKey(searchType, searchKeyword, pageable),
+                () -> articleService.searchArticles(searchType, searchKeyword, pageable)
+        );
+    }
+
+    public Page<ArticleDto> searchArticlesViaHashtag(String hashtagName, Pageable pageable) {
+        if (!properties.isEnabled()) {
+            return articleService.searchArticlesViaHashtag(hashtagName, pageable);
+        }
+
+        return hashtagSearchFlight.execute(
+                new SearchKey(SearchType.HASHTAG, hashtagName, pageable),
+                () -> articleService.searchArticlesViaHashtag(hashtagName, pageable)
+        );
+    }
+
+
+    private static void registerCoalescedCounter(MeterRegistry registry, String load, SingleFlight<?, ?> flight) {
+        FunctionCounter.builder(COALESCED_METRIC, flight, SingleFlight::getCoalescedCount)
+                .tag("load", load)
+                .register(registry);
+    }
+
+    private record ArticleKey(Long articleId, String versionTag) {}
+
+    private record SearchKey(SearchType searchType, String searchKeyword, Pageable pageable) {}
+
+}
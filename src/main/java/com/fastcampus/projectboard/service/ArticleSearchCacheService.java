@@ -0,0 +1,193 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.SearchCacheConfig.SearchCacheProperties;
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.domain.event.HashtagsChanged;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ChangeLogDto;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 같은 검색 조건, 같은 페이지의 검색 결과를 게시글 ID 목록과 전체 건수로 캐시한다.
+ *
+ * <p>
+ * 캐시에서 꺼낼 때는 ID 로 게시글을 다시 조회하므로, 검색 쿼리와 count 쿼리는 건너뛰고 게시글 내용은 항상 최신이다.
+ * <ul>
+ *     <li>해시태그 검색 결과: 그 해시태그가 달리거나 빠지는 글이 저장되면 트랜잭션 커밋 후에 지운다.</li>
+ *     <li>그 밖의 검색 결과: 짧은 시간이 지나면 만료된다. 그 사이에 바뀐 글은 검색 결과에 늦게 반영될 수 있다.</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+@Service
+public class ArticleSearchCacheService {
+
+    private final SearchCacheProperties properties;
+    private final ArticleRepository articleRepository;
+    private final Cache<SearchKey, SearchResult> articleSearchCache;
+
+    /**
+     * 해시태그 검색 결과를 지울 때마다 올라간다. 검색하는 사이에 지워진 결과를 다시 넣지 않기 위해 쓴다.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 캐시된 검색 결과가 있으면 게시글을 ID 로 다시 조회해서 반환한다. 그 사이에 삭제된 게시글은 빠진다.
+     */
+    public Optional<Page<ArticleDto>> find(SearchKey key, Pageable pageable) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(articleSearchCache.getIfPresent(key))
+                .map(result -> new PageImpl<>(loadArticles(result.articleIds()), pageable, result.totalElements()));
+    }
+
+    /**
+     * 검색을 시작하기 전에 읽어 두었다가 {@link #put} 에 넘긴다.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 검색 결과를 캐시한다. 검색하는 동안 해시태그 검색 결과가 지워졌다면, 오래된 결과일 수 있으므로 캐시하지 않는다.
+     *
+     * @param generation 검색을 시작하기 전에 {@link #generation()} 으로 읽은 값
+     */
+    public void put(SearchKey key, Page<Article> articles, long generation) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (key.isHashtagSearch() && generation != this.generation.get()) {
+            return;
+        }
+
+        articleSearchCache.put(key, SearchResult.from(articles));
+    }
+
+    /**
+     * 주어진 해시태그로 검색한 결과를 지운다. 트랜잭션 안에서 부르면 커밋된 뒤에 지운다.
+     */
+    public void evictHashtags(Collection<String> hashtagNames) {
+        if (!properties.isEnabled() || hashtagNames.isEmpty()) {
+            return;
+        }
+
+        Set<String> normalizedNames = hashtagNames.stream()
+                .map(ArticleSearchCacheService::normalizeHashtagName)
+                .collect(Collectors.toUnmodifiableSet());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNormalizedHashtags(normalizedNames);
+                }
+            });
+        } else {
+            evictNormalizedHashtags(normalizedNames);
+        }
+    }
+
+    @EventListener
+    public void onHashtagsChanged(HashtagsChanged event) {
+        evictHashtags(event.hashtagNames());
+    }
+
+    /**
+     * 다른 서버에서 글이 바뀌었을 때도 해시태그 검색 결과를 지운다.
+     */
+    @EventListener
+    public void onChange(ChangeLogDto change) {
+        evictHashtags(change.hashtagNames());
+    }
+
+
+    private void evictNormalizedHashtags(Set<String> normalizedNames) {
+        generation.incrementAndGet();
+        articleSearchCache.asMap().keySet().removeIf(key -> key.hashtagNames().stream()
+                .map(ArticleSearchCacheService::normalizeHashtagName)
+                .anyMatch(normalizedNames::contains)
+        );
+    }
+
+    private List<ArticleDto> loadArticles(List<Long> articleIds) {
+        Map<Long, Article> articles = articleRepository.findAllById(articleIds).stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+
+        return articleIds.stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .map(ArticleDto::from)
+                .toList();
+    }
+
+    private static String normalizeHashtagName(String hashtagName) {
+        return hashtagName.toLowerCase(Locale.ROOT);
+    }
+
+
+    /**
+     * 검색 결과 캐시 키. 검색어는 앞뒤 공백을 없애고 연속된 공백을 하나로 줄여서 같은 검색끼리 묶는다.
+     *
+     * @param hashtagNames 해시태그 검색이면 검색한 해시태그 이름들 (순서 무관). 아니면 빈 집합
+     */
+    public record SearchKey(
+            SearchType searchType,
+            String keyword,
+            SortedSet<String> hashtagNames,
+            int page,
+            int size,
+            Sort sort
+    ) {
+        public static SearchKey of(SearchType searchType, String keyword, Pageable pageable) {
+            return new SearchKey(searchType, keyword.strip().replaceAll("\\s+", " "), Collections.emptySortedSet(), pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        }
+
+        public static SearchKey ofHashtags(Collection<String> hashtagNames, Pageable pageable) {
+            return new SearchKey(SearchType.HASHTAG, null, Collections.unmodifiableSortedSet(new TreeSet<>(hashtagNames)), pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        }
+
+        public boolean isHashtagSearch() {
+            return !hashtagNames.isEmpty();
+        }
+    }
+
+    /**
+     * @param articleIds 검색 결과 페이지에 담긴 게시글 ID (순서대로)
+     * @param totalElements 검색 결과 전체 건수
+     */
+    public record SearchResult(List<Long> articleIds, long totalElements) {
+        public static SearchResult from(Page<Article> articles) {
+            return new SearchResult(
+                    articles.getContent().stream().map(Article::getId).toList(),
+                    articles.getTotalElements()
+            );
+        }
+    }
+
+}
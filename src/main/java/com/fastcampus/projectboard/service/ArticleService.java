@@ -3,12 +3,25 @@ package com.fastcampus.projectboard.service;
 import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.Hashtag;
 import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.constant.ChangeLogType;
 import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.domain.event.ArticleCreated;
+import com.fastcampus.projectboard.domain.event.ArticleDeleted;
+import com.fastcampus.projectboard.domain.event.ArticleUpdated;
+import com.fastcampus.projectboard.domain.event.HashtagsChanged;
 import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleFeedDto;
+import com.fastcampus.projectboard.dto.ArticleSearchCondition;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
 import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.repository.ArticleCommentRepository;
 import com.fastcampus.projectboard.repository.ArticleRepository;
 import com.fastcampus.projectboard.repository.HashTagRepository;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.repository.fulltext.ArticleFullTextSearch;
+import com.fastcampus.projectboard.repository.fulltext.FullTextField;
+import com.fastcampus.projectboard.service.ArticleSearchCacheService.SearchKey;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,21 +30,33 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "board.service", histogram = true)
 @Service
 public class ArticleService {
 
     private final HashtagService hashtagService;
+    private final ArticleSearchCacheService articleSearchCacheService;
+    private final ChangeLogService changeLogService;
+    private final DomainEventService domainEventService;
     private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashTagRepository hashtagRepository;
+    private final ArticleFullTextSearch articleFullTextSearch;
+    private final AuthorIndexService authorIndexService;
 
     @Transactional(readOnly = true)
     public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
@@ -39,17 +64,11 @@ public class ArticleService {
             return articleRepository.findAll(pageable).map(ArticleDto::from);
         }
 
-        return switch (searchType) {
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtagNames(
-                            Arrays.stream(searchKeyword.split(" ")).toList(),
-                            pageable
-                    )
-                    .map(ArticleDto::from);
-        };
+        SearchKey key = searchType == SearchType.HASHTAG
+                ? SearchKey.ofHashtags(splitHashtagNames(searchKeyword), pageable)
+                : SearchKey.of(searchType, searchKeyword, pageable);
+
+        return searchCached(key, pageable, () -> findArticles(searchType, searchKeyword, pageable));
     }
 
     @Transactional(readOnly = true)
@@ -66,6 +85,36 @@ public class ArticleService {
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
     }
 
+    @Transactional(readOnly = true)
+    public Optional<ArticleVersionDto> getArticleVersion(Long articleId) {
+        return articleRepository.findVersionById(articleId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArticleFeedDto> getArticleFeed(Long cursor, String hashtagName, int size) {
+        return articleRepository.findFeed(cursor, hashtagName, size);
+    }
+
+    /**
+     * 검색식으로 게시글 요약을 커서 방식으로 조회한다.
+     *
+     * @see ArticleSearchCondition
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleFeedDto> searchArticleFeed(String query, Long cursor, int size) {
+        ArticleSearchCondition condition = ArticleSearchCondition.from(query);
+        if (condition.isEmpty()) {
+            return List.of();
+        }
+
+        ArticleSearchCondition resolved = resolveAuthors(condition);
+        if (resolved.hasNoMatchingAuthors()) {
+            return List.of();
+        }
+
+        return articleRepository.findFeedByCondition(resolved, cursor, size);
+    }
+
     public void saveArticle(ArticleDto dto) {
         UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
         Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
@@ -73,6 +122,11 @@ public class ArticleService {
         Article article = dto.toEntity(userAccount);
         article.addHashtags(hashtags);
         articleRepository.save(article);
+
+        Set<String> hashtagNames = hashtagNamesOf(hashtags);
+        changeLogService.record(ChangeLogType.ARTICLE, article.getId(), article.getId(), hashtagNames);
+        domainEventService.publish(new ArticleCreated(article.getId(), hashtagNames));
+        publishHashtagsChanged(article.getId(), hashtagNames, hashtagNames);
     }
 
     public void updateArticle(Long articleId, ArticleDto dto) {
@@ -87,6 +141,7 @@ public class ArticleService {
                 Set<Long> hashtagIds = article.getHashtags().stream()
                         .map(Hashtag::getId)
                         .collect(Collectors.toUnmodifiableSet());
+                Set<String> oldHashtagNames = hashtagNamesOf(article.getHashtags());
                 article.clearHashtags();
                 articleRepository.flush();
 
@@ -94,24 +149,37 @@ public class ArticleService {
 
                 Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
                 article.addHashtags(hashtags);
+
+                Set<String> hashtagNames = hashtagNamesOf(hashtags);
+                Set<String> changedHashtagNames = symmetricDifference(oldHashtagNames, hashtagNames);
+                changeLogService.record(ChangeLogType.ARTICLE, articleId, articleId, changedHashtagNames);
+                domainEventService.publish(new ArticleUpdated(articleId, hashtagNames));
+                publishHashtagsChanged(articleId, changedHashtagNames, difference(hashtagNames, oldHashtagNames));
             }
         } catch (EntityNotFoundException e) {
             log.warn("게시글 업데이트 실패. 게시글을 수정하는데 필요한 정보를 찾을 수 없습니다 - {}", e.getLocalizedMessage());
         }
     }
 
+    /**
+     * 게시글과 그 댓글에 같은 트랜잭션에서 삭제 표시만 하고, 실제 행과 해시태그는 {@link SoftDeletePurgeService} 가 나중에 지운다.
+     * 작성자가 아니면 아무것도 하지 않는다.
+     */
     public void deleteArticle(long articleId, String userId) {
-        Article article = articleRepository.getReferenceById(articleId);
-        Set<Long> hashtagIds = article.getHashtags().stream()
-                .map(Hashtag::getId)
-                .collect(Collectors.toUnmodifiableSet());
-
-        articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
-        articleRepository.flush();
+        List<Hashtag> hashtags = hashtagRepository.findByArticles_Id(articleId);
+        LocalDateTime deletedAt = LocalDateTime.now();
+        if (articleRepository.softDeleteByIdAndUserId(articleId, userId, deletedAt) == 0) {
+            return;
+        }
+        articleCommentRepository.softDeleteByArticleId(articleId, deletedAt);
 
-        hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
+        Set<String> hashtagNames = hashtagNamesOf(hashtags);
+        changeLogService.record(ChangeLogType.ARTICLE, articleId, articleId, hashtagNames);
+        domainEventService.publish(new ArticleDeleted(articleId, hashtagNames));
+        publishHashtagsChanged(articleId, hashtagNames, Set.of());
     }
 
+    @Transactional(readOnly = true)
     public long getArticleCount() {
         return articleRepository.count();
     }
@@ -122,15 +190,127 @@ public class ArticleService {
             return Page.empty(pageable);
         }
 
-        return articleRepository.findByHashtagNames(List.of(hashtagName), pageable)
-                .map(ArticleDto::from);
+        return searchCached(
+                SearchKey.ofHashtags(List.of(hashtagName), pageable),
+                pageable,
+                () -> articleRepository.findByHashtagNames(List.of(hashtagName), pageable)
+        );
     }
 
+    @Transactional(readOnly = true)
     public List<String> getHashtags() {
         return hashtagRepository.findAllHashtagNames(); // TODO: HashtagService 로 이동을 고려해보자.
     }
 
 
+    private Page<Article> findArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+        return switch (searchType) {
+            case TITLE -> articleFullTextSearch.search(FullTextField.TITLE, searchKeyword, pageable)
+                    .orElseGet(() -> articleRepository.findByTitleContaining(searchKeyword, pageable));
+            case CONTENT -> articleFullTextSearch.search(FullTextField.CONTENT, searchKeyword, pageable)
+                    .orElseGet(() -> articleRepository.findByContentContaining(searchKeyword, pageable));
+            case ID -> authorIndexService.findUserIdsByUserId(searchKeyword)
+                    .map(userIds -> searchArticlesByAuthors(userIds, pageable))
+                    .orElseGet(() -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable));
+            case NICKNAME -> authorIndexService.findUserIdsByNickname(searchKeyword)
+                    .map(userIds -> searchArticlesByAuthors(userIds, pageable))
+                    .orElseGet(() -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable));
+            case HASHTAG -> articleRepository.findByHashtagNames(splitHashtagNames(searchKeyword), pageable);
+            case QUERY -> {
+                ArticleSearchCondition condition = resolveAuthors(ArticleSearchCondition.from(searchKeyword));
+                yield condition.hasNoMatchingAuthors() ? Page.empty(pageable) : articleRepository.findByCondition(condition, pageable);
+            }
+        };
+    }
+
+    /**
+     * 캐시된 검색 결과가 있으면 그것을 쓰고, 없으면 검색한 뒤 캐시에 넣는다.
+     */
+    private Page<ArticleDto> searchCached(SearchKey key, Pageable pageable, Supplier<Page<Article>> search) {
+        return articleSearchCacheService.find(key, pageable)
+                .orElseGet(() -> {
+                    long generation = articleSearchCacheService.generation();
+                    Page<Article> articles = search.get();
+                    articleSearchCacheService.put(key, articles, generation);
+
+                    return articles.map(ArticleDto::from);
+                });
+    }
+
+    /**
+     * 작성자 조건이 한 명이면 작성자 색인으로 유저 ID 를 미리 찾아서, 게시글 조회 때 회원 테이블을 조인하지 않게 한다.
+     * 맞는 회원이 없으면 빈 유저 ID 목록을 넣으므로, 호출하는 쪽에서 조회 없이 빈 결과를 돌려주면 된다.
+     */
+    private ArticleSearchCondition resolveAuthors(ArticleSearchCondition condition) {
+        if (condition.authors().size() != 1) {
+            return condition;
+        }
+
+        String author = condition.authors().get(0);
+        Set<String> userIds = new HashSet<>();
+        Optional<Set<String>> byUserId = authorIndexService.findUserIdsByUserId(author);
+        Optional<Set<String>> byNickname = authorIndexService.findUserIdsByNickname(author);
+        if (byUserId.isEmpty() || byNickname.isEmpty()) {
+            return condition;
+        }
+        userIds.addAll(byUserId.get());
+        userIds.addAll(byNickname.get());
+
+        return condition.withAuthorUserIds(Set.copyOf(userIds));
+    }
+
+    private Page<Article> searchArticlesByAuthors(Set<String> userIds, Pageable pageable) {
+        if (userIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        return articleRepository.findByUserAccount_UserIdIn(userIds, pageable);
+    }
+
+    /**
+     * 공백(연속된 공백 포함)으로 나눈 해시태그 이름. 빈 이름은 빼서, 캐시 키와 조회 조건에 빈 해시태그가 들어가지 않게 한다.
+     */
+    private static List<String> splitHashtagNames(String searchKeyword) {
+        return Arrays.stream(searchKeyword.strip().split("\\s+"))
+                .filter(hashtagName -> !hashtagName.isBlank())
+                .toList();
+    }
+
+    private static Set<String> hashtagNamesOf(Collection<Hashtag> hashtags) {
+        return hashtags.stream()
+                .map(Hashtag::getHashtagName)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private void publishHashtagsChanged(Long articleId, Set<String> hashtagNames, Set<String> addedHashtagNames) {
+        if (!hashtagNames.isEmpty()) {
+            domainEventService.publish(new HashtagsChanged(articleId, hashtagNames, addedHashtagNames));
+        }
+    }
+
+    /**
+     * 수정 전후에 한쪽에만 있는 해시태그. 양쪽에 다 있는 해시태그는 검색 결과가 그대로이므로 뺀다.
+     */
+    private static Set<String> symmetricDifference(Set<String> a, Set<String> b) {
+        Set<String> difference = new HashSet<>(a);
+        b.forEach(name -> {
+            if (!difference.remove(name)) {
+                difference.add(name);
+            }
+        });
+
+        return Set.copyOf(difference);
+    }
+
+    /**
+     * {@code a} 에만 있는 해시태그. 수정 후, 수정 전 순서로 주면 이번 수정으로 새로 단 해시태그가 된다.
+     */
+    private static Set<String> difference(Set<String> a, Set<String> b) {
+        return a.stream()
+                .filter(name -> !b.contains(name))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
     private Set<Hashtag> renewHashtagsFromContent(String content) {
         Set<String> hashtagNamesInContent = hashtagService.parseHashtagNames(content);
         Set<Hashtag> hashtags = hashtagService.findHashtagsByNames(hashtagNamesInContent);
@@ -0,0 +1,216 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.event.ArticleDeleted;
+import com.fastcampus.projectboard.dto.ArticleFeedDto;
+import com.fastcampus.projectboard.dto.ArticleViewCountDto;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 조회수.
+ *
+ * <p>
+ * 조회할 때마다 DB 를 갱신하면 인기 게시글 한 행에 쓰기가 몰리므로, 게시글별 {@link LongAdder} 에 메모리로 누적했다가
+ * 주기적으로(그리고 종료할 때) 한 번의 배치 {@code UPDATE} 로 더한다.
+ * 많이 본 게시글 목록은 DB 에 반영된 조회수와 아직 반영하지 않은 조회수를 합친 메모리 집계에서 바로 계산한다.
+ * 집계는 보여줄 수 있는 게시글만 들고 있도록, 삭제된 게시글은 삭제 이벤트와 실제 삭제 때 빼고,
+ * 다른 서버에서 지워져 목록을 만들 때 DB 에서 찾을 수 없는 게시글도 그때 뺀다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleViewCountService {
+
+    private static final String FLUSH_SQL = "update article set view_count = view_count + ? where id = ?";
+
+    private final ArticleRepository articleRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+    private final Map<Long, Long> flushedCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수를 1 늘린다. 트랜잭션 안에서 부르면 커밋된 뒤에 늘려서, 롤백된 요청의 조회는 세지 않는다.
+     */
+    public void increaseViewCount(Long articleId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increasePendingCount(articleId);
+                }
+            });
+        } else {
+            increasePendingCount(articleId);
+        }
+    }
+
+    /**
+     * @return DB 에 반영된 조회수와 아직 반영되지 않은 조회수의 합
+     */
+    public long getViewCount(Long articleId) {
+        LongAdder pending = pendingCounts.get(articleId);
+        return flushedCounts.getOrDefault(articleId, 0L) + (pending == null ? 0L : pending.sum());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArticleViewCountDto> getMostViewedArticles(int limit) {
+        Map<Long, Long> topCounts = topViewCounts(limit);
+        Map<Long, Article> articles = articleRepository.findAllById(topCounts.keySet()).stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+        topCounts.keySet().stream()
+                .filter(articleId -> !articles.containsKey(articleId))
+                .forEach(this::removeNow);
+
+        return topCounts.entrySet().stream()
+                .filter(entry -> articles.containsKey(entry.getKey()))
+                .map(entry -> {
+                    Article article = articles.get(entry.getKey());
+                    return ArticleViewCountDto.of(
+                            ArticleFeedDto.of(
+                                    article.getId(),
+                                    article.getTitle(),
+                                    article.getCreatedAt(),
+                                    article.getUserAccount().getUserId(),
+                                    article.getUserAccount().getNickname()
+                            ),
+                            entry.getValue()
+                    );
+                })
+                .toList();
+    }
+
+    /**
+     * 메모리에 모아 둔 조회수를 DB 에 더한다. 반영에 실패하면 다음 주기에 다시 시도하도록 되돌려 놓는다.
+     */
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval}")
+    public void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pendingCounts.forEach((articleId, counter) -> {
+            long delta = counter.sumThenReset();
+            if (delta > 0) {
+                deltas.put(articleId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = deltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+            deltas.forEach((articleId, delta) -> flushedCounts.merge(articleId, delta, Long::sum));
+        } catch (DataAccessException e) {
+            log.warn("조회수 반영 실패. 다음 주기에 다시 시도합니다 - 게시글 {}개, {}", deltas.size(), e.getLocalizedMessage());
+            deltas.forEach((articleId, delta) -> pendingCounts.computeIfAbsent(articleId, id -> new LongAdder()).add(delta));
+        }
+    }
+
+    /**
+     * 지운 게시글의 조회수를 집계에서 뺀다. 트랜잭션 안에서 부르면 커밋된 뒤에 뺀다.
+     */
+    public void removeViewCounts(Collection<Long> articleIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    articleIds.forEach(ArticleViewCountService.this::removeNow);
+                }
+            });
+        } else {
+            articleIds.forEach(this::removeNow);
+        }
+    }
+
+    @EventListener
+    public void onArticleDeleted(ArticleDeleted event) {
+        removeNow(event.articleId());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 재시작 전까지 DB 에 쌓인 조회수를 메모리 집계에 올린다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadViewCounts() {
+        jdbcTemplate.query(
+                "select id, view_count from article where view_count > 0 and deleted_at is null",
+                resultSet -> {
+                    flushedCounts.put(resultSet.getLong("id"), resultSet.getLong("view_count"));
+                }
+        );
+        log.debug("조회수 집계 로드 - 게시글 {}개", flushedCounts.size());
+    }
+
+
+    private void increasePendingCount(Long articleId) {
+        pendingCounts.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    private void removeNow(Long articleId) {
+        pendingCounts.remove(articleId);
+        flushedCounts.remove(articleId);
+    }
+
+    /**
+     * 집계 전체를 복사하지 않고, 게시글마다 합계를 구해 상위 {@code limit} 개만 남긴다.
+     */
+    private Map<Long, Long> topViewCounts(int limit) {
+        Comparator<Map.Entry<Long, Long>> byCount = Map.Entry.comparingByValue();
+        PriorityQueue<Map.Entry<Long, Long>> top = new PriorityQueue<>(limit + 1, byCount);
+        flushedCounts.keySet().forEach(articleId -> offer(top, limit, articleId));
+        pendingCounts.keySet().stream()
+                .filter(articleId -> !flushedCounts.containsKey(articleId))
+                .forEach(articleId -> offer(top, limit, articleId));
+
+        List<Map.Entry<Long, Long>> sorted = new ArrayList<>(top);
+        sorted.sort(byCount.reversed());
+
+        return sorted.stream().collect(Collectors.toMap(
+                Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new
+        ));
+    }
+
+    private void offer(PriorityQueue<Map.Entry<Long, Long>> top, int limit, Long articleId) {
+        long viewCount = getViewCount(articleId);
+        if (viewCount <= 0) {
+            return;
+        }
+        top.offer(Map.entry(articleId, viewCount));
+        if (top.size() > limit) {
+            top.poll();
+        }
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.AuthorIndexConfig.AuthorIndexProperties;
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.constant.ChangeLogType;
+import com.fastcampus.projectboard.dto.ChangeLogDto;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.util.SubstringIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 작성자 검색(유저 ID, 닉네임)을 위한 메모리 색인.
+ *
+ * <p>
+ * 검색어에 맞는 유저 ID 를 먼저 찾고, 게시글은 {@code user_id in (...)} 로 조회하게 해서 게시글마다 회원 테이블을 조인하며 훑지 않게 한다.
+ * 회원 가입은 커밋된 뒤에 바로 반영하고, 다른 서버에서 가입한 회원은 변경 기록({@link ChangeLogDto})을 받아 그 회원만 읽어서 반영한다.
+ * 변경 기록을 놓치거나 꺼 둔 경우에 대비해, 주기적으로 전체를 다시 읽기도 한다.
+ * 다시 읽는 동안 들어온 가입은 새 색인에 없을 수 있으므로 따로 모아 두었다가, 새 색인으로 바꾸기 전에 다시 넣는다.
+ * 회원 목록을 읽는 동안 가상 스레드가 캐리어 스레드에 묶이지 않도록, 모니터({@code synchronized}) 대신 {@link ReentrantLock} 을 쓴다.
+ * 아직 색인을 읽지 못했거나 맞는 회원이 너무 많으면 빈 값을 돌려주므로, 호출하는 쪽에서 기존 검색을 쓰면 된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AuthorIndexService {
+
+    private final UserAccountRepository userAccountRepository;
+    private final AuthorIndexProperties properties;
+
+    private final Lock reloadLock = new ReentrantLock();
+    private final Lock writeLock = new ReentrantLock();
+
+    private volatile SubstringIndex<String> userIdIndex;
+    private volatile SubstringIndex<String> nicknameIndex;
+    /**
+     * 색인을 다시 만드는 동안 들어온 회원(유저 ID, 닉네임). 다시 만들고 있지 않으면 {@code null}. {@link #writeLock} 으로 보호한다.
+     */
+    private Map<String, String> writesDuringReload;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${board.author-index.refresh-interval}", initialDelayString = "${board.author-index.refresh-interval}")
+    public void reload() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        reloadLock.lock();
+        try {
+            // 회원 목록을 읽기 전부터 모아야, 읽은 목록에 없는 가입을 놓치지 않는다.
+            writeLock.lock();
+            try {
+                writesDuringReload = new LinkedHashMap<>();
+            } finally {
+                writeLock.unlock();
+            }
+
+            List<UserAccount> userAccounts = userAccountRepository.findAll();
+            SubstringIndex<String> newUserIdIndex = new SubstringIndex<>();
+            SubstringIndex<String> newNicknameIndex = new SubstringIndex<>();
+            userAccounts.forEach(userAccount -> {
+                newUserIdIndex.put(userAccount.getUserId(), userAccount.getUserId());
+                newNicknameIndex.put(userAccount.getUserId(), userAccount.getNickname());
+            });
+
+            writeLock.lock();
+            try {
+                writesDuringReload.forEach((userId, nickname) -> {
+                    newUserIdIndex.put(userId, userId);
+                    newNicknameIndex.put(userId, nickname);
+                });
+                writesDuringReload = null;
+                userIdIndex = newUserIdIndex;
+                nicknameIndex = newNicknameIndex;
+            } finally {
+                writeLock.unlock();
+            }
+            log.debug("작성자 색인을 다시 만들었습니다 - 회원 {}명", userAccounts.size());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 회원을 색인에 넣는다. 트랜잭션 안에서 부르면 커밋된 뒤에 넣는다.
+     */
+    public void index(String userId, String nickname) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    indexNow(userId, nickname);
+                }
+            });
+        } else {
+            indexNow(userId, nickname);
+        }
+    }
+
+    /**
+     * 다른 서버에서 가입한 회원을 색인에 넣는다. 변경 기록에는 유저 ID 만 있으므로 닉네임은 DB 에서 읽는다.
+     */
+    @EventListener
+    public void onChange(ChangeLogDto change) {
+        if (!properties.isEnabled() || change.entityType() != ChangeLogType.USER_ACCOUNT || change.userId() == null) {
+            return;
+        }
+
+        userAccountRepository.findById(change.userId())
+                .ifPresent(userAccount -> indexNow(userAccount.getUserId(), userAccount.getNickname()));
+    }
+
+    /**
+     * @return 유저 ID 에 검색어가 포함된 회원의 유저 ID
+     */
+    public Optional<Set<String>> findUserIdsByUserId(String keyword) {
+        return find(userIdIndex, keyword);
+    }
+
+    /**
+     * @return 닉네임에 검색어가 포함된 회원의 유저 ID
+     */
+    public Optional<Set<String>> findUserIdsByNickname(String keyword) {
+        return find(nicknameIndex, keyword);
+    }
+
+
+    private void indexNow(String userId, String nickname) {
+        writeLock.lock();
+        try {
+            if (writesDuringReload != null) {
+                writesDuringReload.put(userId, nickname);
+            }
+            if (userIdIndex != null && nicknameIndex != null) {
+                userIdIndex.put(userId, userId);
+                nicknameIndex.put(userId, nickname);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Optional<Set<String>> find(SubstringIndex<String> index, String keyword) {
+        if (index == null) {
+            return Optional.empty();
+        }
+
+        Set<String> userIds = index.findContaining(keyword);
+        if (userIds.size() > properties.getMaxUserIds()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(userIds);
+    }
+
+}
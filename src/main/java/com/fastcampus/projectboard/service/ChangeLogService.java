@@ -0,0 +1,212 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.ChangeLogConfig.ChangeLogProperties;
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.ChangeLog;
+import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.constant.ChangeLogType;
+import com.fastcampus.projectboard.dto.ChangeLogDto;
+import com.fastcampus.projectboard.repository.ChangeLogRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서버 여러 대가 각자 들고 있는 캐시를 DB 의 변경 기록({@link ChangeLog})으로 맞춘다.
+ *
+ * <p>
+ * 게시글, 댓글, 해시태그를 바꾸는 트랜잭션은 {@link #record} 로, 회원을 바꾸는 트랜잭션은 {@link #recordUserAccount} 로 변경 기록을 함께 저장한다.
+ * 각 서버는 주기적으로 마지막으로 읽은 ID(high-water mark) 이후의 기록을 읽어서,
+ * 다른 서버가 만든 변경이면 Hibernate 2차 캐시를 비우고 {@link ChangeLogDto} 이벤트를 발행한다.
+ * 자기 캐시를 가진 서비스는 이 이벤트를 받아 비운다.
+ *
+ * <p>
+ * IDENTITY 키는 커밋 순서와 다르게 매겨질 수 있어서, 읽다가 건너뛴 ID 는 {@code gap-timeout} 동안 따로 다시 찾아본다.
+ * 지표:
+ * <ul>
+ *     <li>{@code board.change-log.lag}: 기록이 저장된 뒤 이 서버가 읽기까지 걸린 시간. 서버 간 시계 차이가 섞인다.</li>
+ *     <li>{@code board.change-log.gaps}: 아직 기다리는 건너뛴 ID 수</li>
+ * </ul>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ChangeLogService {
+
+    private static final int MAX_GAPS = 10_000;
+
+    private final ChangeLogProperties properties;
+    private final ChangeLogRepository changeLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong highWaterMark = new AtomicLong(-1L);
+    private final Map<Long, LocalDateTime> gaps = new ConcurrentHashMap<>();
+    private Timer lag;
+
+    @PostConstruct
+    void registerMetrics() {
+        lag = Timer.builder("board.change-log.lag").register(meterRegistry);
+        Gauge.builder("board.change-log.gaps", gaps, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 변경 기록을 남긴다. 변경을 저장하는 트랜잭션 안에서 불러야 한다.
+     *
+     * @param entityId 바뀐 엔티티 ID. 아직 저장 전이라 모르면 {@code null}
+     * @param articleId 관련 게시글 ID
+     * @param hashtagNames 관련 해시태그 이름들 (해시태그 검색 결과를 지우는 데 쓴다)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ChangeLogType entityType, Long entityId, Long articleId, Collection<String> hashtagNames) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        changeLogRepository.save(ChangeLog.of(entityType, entityId, articleId, hashtagNames, nodeId));
+    }
+
+    /**
+     * 회원 변경 기록을 남긴다. 회원을 저장하는 트랜잭션 안에서 불러야 한다.
+     *
+     * @param userId 바뀐 회원 ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUserAccount(String userId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        changeLogRepository.save(ChangeLog.ofUserAccount(userId, nodeId));
+    }
+
+    /**
+     * 마지막으로 읽은 기록 이후의 변경을 읽어서 반영한다. 처음 부를 때는 지금까지의 기록을 건너뛴다. (시작할 때 캐시가 비어 있으므로)
+     */
+    @Scheduled(fixedDelayString = "${board.change-log.poll-interval}")
+    @Transactional(readOnly = true)
+    public void poll() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (highWaterMark.get() < 0) {
+            highWaterMark.set(changeLogRepository.findFirstByOrderByIdDesc().map(ChangeLog::getId).orElse(0L));
+            return;
+        }
+
+        pollGaps();
+        List<ChangeLog> changes;
+        do {
+            changes = changeLogRepository.findByIdGreaterThanOrderByIdAsc(highWaterMark.get(), PageRequest.ofSize(properties.getBatchSize()));
+            changes.forEach(change -> {
+                rememberGaps(highWaterMark.get(), change.getId());
+                highWaterMark.set(change.getId());
+                apply(change);
+            });
+        } while (changes.size() == properties.getBatchSize());
+    }
+
+    /**
+     * 보관 기간이 지난 변경 기록을 지운다. 모든 서버가 돌려도 문제없다.
+     */
+    @Scheduled(fixedDelayString = "${board.change-log.retention}")
+    @Transactional
+    public void purge() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        int deleted = changeLogRepository.deleteByCreatedAtBefore(LocalDateTime.now().minus(properties.getRetention()));
+        log.debug("보관 기간이 지난 변경 기록 {}건을 지웠습니다.", deleted);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+
+    private void pollGaps() {
+        if (gaps.isEmpty()) {
+            return;
+        }
+
+        changeLogRepository.findByIdIn(List.copyOf(gaps.keySet())).forEach(change -> {
+            gaps.remove(change.getId());
+            apply(change);
+        });
+
+        LocalDateTime expiredAt = LocalDateTime.now().minus(properties.getGapTimeout());
+        gaps.values().removeIf(missingSince -> missingSince.isBefore(expiredAt));
+    }
+
+    private void rememberGaps(long previousId, long currentId) {
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = previousId + 1; id < currentId && gaps.size() < MAX_GAPS; id++) {
+            gaps.put(id, now);
+        }
+    }
+
+    private void apply(ChangeLog change) {
+        Duration elapsed = Duration.between(change.getCreatedAt(), LocalDateTime.now());
+        lag.record(elapsed.isNegative() ? Duration.ZERO : elapsed);
+        if (nodeId.equals(change.getOrigin())) {
+            return;
+        }
+
+        evictSecondLevelCache(change);
+        eventPublisher.publishEvent(ChangeLogDto.from(change));
+    }
+
+    /**
+     * 다른 서버의 변경은 이 서버의 2차 캐시가 모르므로 직접 비운다.
+     * 게시글이 바뀌면 새 해시태그가 생겼을 수 있으므로 해시태그 조회 쿼리 캐시도 함께 비운다.
+     */
+    private void evictSecondLevelCache(ChangeLog change) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        switch (change.getEntityType()) {
+            case ARTICLE -> {
+                if (change.getArticleId() != null) {
+                    cache.evictCollectionData(Article.class.getName() + ".hashtags", change.getArticleId());
+                }
+                cache.evictQueryRegions();
+            }
+            case HASHTAG -> {
+                if (change.getEntityId() != null) {
+                    cache.evictEntityData(Hashtag.class, change.getEntityId());
+                }
+                cache.evictQueryRegions();
+            }
+            case USER_ACCOUNT -> {
+                if (change.getUserId() != null) {
+                    cache.evictEntityData(UserAccount.class, change.getUserId());
+                }
+            }
+            case ARTICLE_COMMENT -> {}
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.fastcampus.projectboard.service;
+
+/**
+ * 현재 스레드에서 전달 중인 도메인 이벤트의 아웃박스 ID 를 들고 있는다.
+ * 같은 이벤트가 다시 전달되어도 한 번만 처리해야 하는 리스너가 이 ID 로 이미 처리한 이벤트인지 가린다. ({@link DomainEventService})
+ */
+public final class DomainEventContext {
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private DomainEventContext() {}
+
+    /**
+     * @return 전달 중인 이벤트의 아웃박스 ID. 아웃박스를 거치지 않고 전달했거나 이벤트 전달 밖이면 {@code null}
+     */
+    public static Long currentEventId() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 아웃박스 ID 를 바꾸고, 이전 값을 돌려준다. 끝나면 이전 값으로 {@link #restore(Long)} 해야 한다.
+     */
+    static Long enter(Long outboxEventId) {
+        Long previous = CURRENT.get();
+        CURRENT.set(outboxEventId);
+
+        return previous;
+    }
+
+    static void restore(Long previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+}
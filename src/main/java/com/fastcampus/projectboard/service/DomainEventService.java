@@ -0,0 +1,231 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.OutboxConfig.OutboxProperties;
+import com.fastcampus.projectboard.domain.OutboxEvent;
+import com.fastcampus.projectboard.domain.event.DomainEvent;
+import com.fastcampus.projectboard.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 도메인 이벤트({@link DomainEvent})를 트랜잭션 아웃박스로 남기고, 커밋된 뒤에 별도 스레드에서 {@code @EventListener} 들에게 전달한다.
+ *
+ * <p>
+ * 쓰기 트랜잭션은 이벤트를 {@link OutboxEvent} 로 함께 저장만 하고 돌아가므로, 부수 작업이 쓰기 응답 시간에 들어가지 않는다.
+ * 커밋되면 이 서버가 크기가 정해진 스레드 풀로 바로 전달하고, 전달을 마치면 아웃박스에 표시한다.
+ * <ul>
+ *     <li>리스너가 예외를 던지면 {@code retry-backoff} 부터 두 배씩 늘려 가며 {@code max-attempts} 번까지 다시 보낸다.</li>
+ *     <li>스레드 풀이 가득 찼거나 전달이 {@code lease} 안에 끝나지 않으면, 주기적인 재전송에서 다시 보낸다.</li>
+ * </ul>
+ * 리스너는 캐시 무효화, 인기 순위 집계처럼 서버마다 가진 상태를 고치므로, 이벤트는 그것을 만든 서버만 가져가서 전달한다.
+ * 다른 서버에서 전달하면 정작 이벤트를 만든 서버의 캐시가 비워지지 않는다. (다른 서버의 캐시는 {@link ChangeLogService} 가 비운다)
+ * 만든 서버가 내려가서 전달하지 못한 이벤트와 최대 시도 횟수를 넘긴 이벤트는 {@code dead-letter-retention} 동안 보관했다가 지운다.
+ * 재전송 때문에 같은 이벤트가 두 번 이상 전달될 수 있다. 전달하는 동안 리스너는 {@link DomainEventContext#currentEventId()} 로 아웃박스 ID 를 볼 수 있다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class DomainEventService implements DisposableBean {
+
+    private static final int MAX_BACKOFF_SHIFT = 10;
+    private static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES = Arrays.stream(DomainEvent.class.getPermittedSubclasses())
+            .map(type -> type.asSubclass(DomainEvent.class))
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private final OutboxProperties properties;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void startExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                properties.getThreads(),
+                properties.getThreads(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "domain-event-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    /**
+     * 이벤트를 아웃박스에 남기고, 커밋된 뒤에 전달한다. 쓰기 트랜잭션 안에서 불러야 한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        if (!properties.isEnabled()) {
+            afterCommit(() -> eventPublisher.publishEvent(event));
+            return;
+        }
+
+        OutboxEvent outboxEvent = outboxEventRepository.save(OutboxEvent.of(
+                event.getClass().getSimpleName(),
+                toJson(event),
+                nodeId,
+                LocalDateTime.now().plus(properties.getLease())
+        ));
+        Long outboxEventId = outboxEvent.getId();
+        afterCommit(() -> submit(outboxEventId, event, 0));
+    }
+
+    /**
+     * 이 서버가 만든 이벤트 중 아직 전달되지 않았고 전달 중이 아닌 이벤트를 가져가서 다시 보낸다.
+     */
+    @Scheduled(fixedDelayString = "${board.outbox.relay-interval}")
+    public void relay() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> pending = outboxEventRepository.findByOriginAndPublishedAtIsNullAndAttemptsLessThanAndLockedUntilBeforeOrderByIdAsc(
+                nodeId,
+                properties.getMaxAttempts(),
+                now,
+                PageRequest.ofSize(properties.getRelayBatchSize())
+        );
+        for (OutboxEvent outboxEvent : pending) {
+            if (executor.getQueue().remainingCapacity() == 0) {
+                return;
+            }
+            if (outboxEventRepository.claim(outboxEvent.getId(), nodeId, now, now.plus(properties.getLease())) != 1) {
+                continue;
+            }
+
+            DomainEvent event;
+            try {
+                event = fromJson(outboxEvent);
+            } catch (RuntimeException e) {
+                log.error("도메인 이벤트를 읽을 수 없습니다 - id: {}, type: {}", outboxEvent.getId(), outboxEvent.getEventType(), e);
+                outboxEventRepository.markFailed(outboxEvent.getId(), now.plus(properties.getLease()));
+                continue;
+            }
+            submit(outboxEvent.getId(), event, outboxEvent.getAttempts());
+        }
+    }
+
+    /**
+     * 전달을 마친 지 보관 기간이 지난 이벤트와, 생긴 지 {@code dead-letter-retention} 이 지나도록 전달하지 못한 이벤트를 지운다.
+     */
+    @Scheduled(fixedDelayString = "${board.outbox.retention}")
+    public void purge() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = outboxEventRepository.deleteByPublishedAtBefore(now.minus(properties.getRetention()));
+        log.debug("보관 기간이 지난 도메인 이벤트 {}건을 지웠습니다.", deleted);
+
+        int deadLetters = outboxEventRepository.deleteUnpublishedByCreatedAtBefore(now.minus(properties.getDeadLetterRetention()));
+        if (deadLetters > 0) {
+            log.warn("끝내 전달하지 못한 도메인 이벤트 {}건을 지웠습니다.", deadLetters);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(properties.getLease().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private void submit(Long outboxEventId, DomainEvent event, int attempts) {
+        try {
+            executor.execute(() -> dispatch(outboxEventId, event, attempts));
+        } catch (RejectedExecutionException e) {
+            log.warn("도메인 이벤트 전달이 밀려 있어서 재전송으로 미룹니다 - id: {}, {}", outboxEventId, event);
+        }
+    }
+
+    private void dispatch(Long outboxEventId, DomainEvent event, int attempts) {
+        Long previous = DomainEventContext.enter(outboxEventId);
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            if (attempts + 1 >= properties.getMaxAttempts()) {
+                log.error("도메인 이벤트 전달을 포기합니다 - id: {}, {}", outboxEventId, event, e);
+            } else {
+                log.warn("도메인 이벤트 전달 실패. 잠시 후 다시 보냅니다 - id: {}, {}, {}", outboxEventId, event, e.getLocalizedMessage());
+            }
+            Duration backoff = properties.getRetryBackoff().multipliedBy(1L << Math.min(attempts, MAX_BACKOFF_SHIFT));
+            outboxEventRepository.markFailed(outboxEventId, LocalDateTime.now().plus(backoff));
+            return;
+        } finally {
+            DomainEventContext.restore(previous);
+        }
+
+        outboxEventRepository.markPublished(outboxEventId, LocalDateTime.now());
+    }
+
+    private String toJson(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("도메인 이벤트를 저장할 수 없습니다 - " + event, e);
+        }
+    }
+
+    private DomainEvent fromJson(OutboxEvent outboxEvent) {
+        Class<? extends DomainEvent> eventType = EVENT_TYPES.get(outboxEvent.getEventType());
+        if (eventType == null) {
+            throw new IllegalStateException("알 수 없는 도메인 이벤트 종류입니다 - " + outboxEvent.getEventType());
+        }
+
+        try {
+            return objectMapper.readValue(outboxEvent.getPayload(), eventType);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
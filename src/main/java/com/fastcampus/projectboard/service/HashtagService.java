@@ -1,7 +1,9 @@
 package com.fastcampus.projectboard.service;
 
 import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.domain.constant.ChangeLogType;
 import com.fastcampus.projectboard.repository.HashTagRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,10 +15,12 @@ import java.util.regex.Pattern;
 
 @Transactional
 @RequiredArgsConstructor
+@Timed(value = "board.service", histogram = true)
 @Service
 public class HashtagService {
 
     private final HashTagRepository hashtagRepository;
+    private final ChangeLogService changeLogService;
 
     @Transactional(readOnly = true)
     public Set<Hashtag> findHashtagsByNames(Set<String> hashtagNames) {
@@ -39,10 +43,14 @@ public class HashtagService {
         return Set.copyOf(result);
     }
 
+    /**
+     * 해시태그가 달린 게시글이 하나도 없으면 지운다. 삭제 표시만 된 게시글에 달려 있으면, 게시글을 실제로 지울 때까지 남겨 둔다.
+     */
     public void deleteHashtagWithoutArticles(Long hashtagId) {
-        Hashtag hashtag = hashtagRepository.getReferenceById(hashtagId);
-        if (hashtag.getArticles().isEmpty()) {
+        if (hashtagRepository.countArticleLinks(hashtagId) == 0) {
+            Hashtag hashtag = hashtagRepository.getReferenceById(hashtagId);
             hashtagRepository.delete(hashtag);
+            changeLogService.record(ChangeLogType.HASHTAG, hashtagId, null, Set.of(hashtag.getHashtagName()));
         }
     }
 
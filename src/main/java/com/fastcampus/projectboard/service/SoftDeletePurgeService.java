@@ -0,0 +1,162 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.PurgeConfig.PurgeProperties;
+import com.fastcampus.projectboard.config.ReadWriteRoutingDataSource;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 삭제 표시된 게시글과 댓글을 사용자가 적은 시간대에 조금씩 실제로 지운다.
+ *
+ * <p>
+ * 사용자의 삭제 요청은 한 행에 삭제 표시만 하고 끝나므로, 댓글 트리와 해시태그를 지우는 무거운 일은 여기서 한다.
+ * 주기마다 게시글과 댓글을 {@code batch-size} 개씩만 지우고, 정해진 시간대가 아니거나 원본 DB 커넥션 풀이 바쁘면 건너뛴다.
+ * 대댓글은 같은 테이블의 부모 댓글을 가리키므로, 댓글은 항상 대댓글이 없는 댓글부터 지운다. (MySQL 처럼 행마다 외래 키를 확인하는 DB)
+ * 스케줄러 스레드를 붙잡지 않도록 묶음 사이에 기다리지 않고, 다음 주기에 이어서 지운다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class SoftDeletePurgeService {
+
+    private static final String SELECT_DELETED_ARTICLE_IDS_SQL = "select id from article where deleted_at < :deletedBefore order by id limit :limit";
+    private static final String SELECT_HASHTAG_IDS_SQL = "select distinct hashtag_id from article_hashtag where article_id in (:articleIds)";
+    private static final String SELECT_DELETED_LEAF_COMMENT_IDS_SQL = """
+            select c.id from article_comment c
+            where c.deleted_at < :deletedBefore
+              and not exists (select 1 from article_comment r where r.parent_comment_id = c.id)
+            order by c.id limit :limit
+            """;
+    private static final String DELETE_COMMENTS_SQL = "delete from article_comment where id in (:articleCommentIds)";
+
+    private final PurgeProperties properties;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleRepository articleRepository;
+    private final HashtagService hashtagService;
+    private final ArticleViewCountService articleViewCountService;
+    private final DataSource dataSource;
+    private final Clock clock;
+
+    /**
+     * 보관 기간이 지난 삭제 표시 게시글, 댓글을 한 묶음씩 지운다.
+     */
+    @Scheduled(fixedDelayString = "${board.purge.batch-interval}")
+    public void purge() {
+        if (!properties.isEnabled() || !isQuiet()) {
+            return;
+        }
+
+        LocalDateTime deletedBefore = LocalDateTime.now(clock).minus(properties.getRetention());
+        int articleCount = Objects.requireNonNull(transactionTemplate.execute(status -> purgeArticles(deletedBefore)));
+        int articleCommentCount = Objects.requireNonNull(transactionTemplate.execute(status -> purgeArticleComments(deletedBefore)));
+        if (articleCount > 0 || articleCommentCount > 0) {
+            log.debug("삭제 표시된 게시글 {}개, 댓글 {}개를 지웠습니다.", articleCount, articleCommentCount);
+        }
+    }
+
+
+    /**
+     * 게시글을 댓글, 해시태그 연결과 함께 {@link ArticleRepository#deleteAllWithCommentsByIdIn} 으로 지운다.
+     * 더 이상 쓰이지 않는 해시태그는 2차 캐시와 변경 기록을 함께 처리하도록 {@link HashtagService} 로 지운다.
+     * 지운 게시글은 커밋된 뒤에 조회수 집계에서도 뺀다.
+     */
+    private int purgeArticles(LocalDateTime deletedBefore) {
+        List<Long> articleIds = jdbcTemplate.queryForList(
+                SELECT_DELETED_ARTICLE_IDS_SQL,
+                Map.of("deletedBefore", deletedBefore, "limit", properties.getBatchSize()),
+                Long.class
+        );
+        if (articleIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> hashtagIds = jdbcTemplate.queryForList(SELECT_HASHTAG_IDS_SQL, Map.of("articleIds", articleIds), Long.class);
+        articleRepository.deleteAllWithCommentsByIdIn(articleIds);
+        hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
+        articleViewCountService.removeViewCounts(articleIds);
+
+        return articleIds.size();
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 표시 댓글 중 대댓글이 없는 것부터 지우고, 그래서 대댓글이 없어진 부모 댓글을 이어서 지운다.
+     * 댓글마다 자기 삭제 시각으로만 판단하므로, 보관 기간이 남았거나 삭제 표시되지 않은 대댓글이 달린 댓글은 남겨 둔다.
+     * 깊이와 상관없이 한 묶음에 {@code batch-size} 개까지만 지운다.
+     */
+    private int purgeArticleComments(LocalDateTime deletedBefore) {
+        int purged = 0;
+        while (purged < properties.getBatchSize()) {
+            List<Long> articleCommentIds = jdbcTemplate.queryForList(
+                    SELECT_DELETED_LEAF_COMMENT_IDS_SQL,
+                    Map.of("deletedBefore", deletedBefore, "limit", properties.getBatchSize() - purged),
+                    Long.class
+            );
+            if (articleCommentIds.isEmpty()) {
+                break;
+            }
+
+            jdbcTemplate.update(DELETE_COMMENTS_SQL, Map.of("articleCommentIds", articleCommentIds));
+            purged += articleCommentIds.size();
+        }
+
+        return purged;
+    }
+
+    /**
+     * 지워도 되는 시간대이고, 원본 DB 커넥션 풀이 한가한지 확인한다.
+     */
+    private boolean isQuiet() {
+        LocalTime now = LocalTime.now(clock);
+        LocalTime start = properties.getWindowStart();
+        LocalTime end = properties.getWindowEnd();
+        boolean inWindow = start.isBefore(end)
+                ? !now.isBefore(start) && now.isBefore(end)
+                : !now.isBefore(start) || now.isBefore(end);
+        if (!inWindow) {
+            return false;
+        }
+
+        HikariPoolMXBean pool = primaryPool();
+        return pool == null || pool.getActiveConnections() <= properties.getMaxActiveConnections();
+    }
+
+    /**
+     * 원본 DB 의 Hikari 커넥션 풀. 읽기/쓰기 분기({@link ReadWriteRoutingDataSource})를 쓰면 그중 원본 풀이다.
+     * 지표 이름이나 풀 이름에 기대지 않고 데이터 소스에서 직접 꺼내므로, 분기 설정 여부와 상관없이 같은 풀을 본다.
+     *
+     * @return 커넥션 풀. Hikari 가 아니거나 아직 풀이 시작되지 않았으면 {@code null}
+     */
+    private HikariPoolMXBean primaryPool() {
+        try {
+            DataSource primary = dataSource.isWrapperFor(ReadWriteRoutingDataSource.class)
+                    ? dataSource.unwrap(ReadWriteRoutingDataSource.class).getPrimary()
+                    : dataSource;
+            if (!primary.isWrapperFor(HikariDataSource.class)) {
+                return null;
+            }
+
+            return primary.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        } catch (SQLException e) {
+            log.debug("커넥션 풀 상태를 알 수 없습니다 - {}", e.getLocalizedMessage());
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.TrendingConfig;
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.event.ArticleCreated;
+import com.fastcampus.projectboard.domain.event.CommentAdded;
+import com.fastcampus.projectboard.domain.event.HashtagsChanged;
+import com.fastcampus.projectboard.dto.TrendingArticleDto;
+import com.fastcampus.projectboard.dto.TrendingHashtagDto;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.util.SlidingWindowCounter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 최근 일정 기간 동안 활동이 많은 게시글(작성, 댓글)과 많이 쓰인 해시태그.
+ *
+ * <p>
+ * 활동은 메모리의 슬라이딩 윈도 카운터에만 쌓고, 순위는 주기적으로 한 번 계산해서 들고 있는다.
+ * 그래서 화면 요청마다 집계 쿼리를 돌리지 않고, 계산된 상위 K 개 목록을 그대로 돌려준다.
+ * 트랜잭션 안에서 기록하면 커밋된 뒤에 센다. 롤백된 활동은 세지 않는다.
+ * 해시태그는 게시글에 새로 달렸을 때만 센다. 내용만 고쳐 다시 저장한 게시글의 해시태그는 다시 세지 않는다.
+ * 도메인 이벤트는 다시 전달될 수 있으므로, 집계 기간 동안 이미 센 이벤트의 아웃박스 ID 를 기억해 두고 한 번만 센다.
+ */
+@Service
+public class TrendingService {
+
+    private final ArticleRepository articleRepository;
+    private final int topK;
+    private final SlidingWindowCounter<Long> articleActivities;
+    private final SlidingWindowCounter<String> hashtagUsages;
+    private final Cache<Long, Boolean> countedEventIds;
+
+    private volatile List<TrendingArticleDto> trendingArticles = List.of();
+    private volatile List<TrendingHashtagDto> trendingHashtags = List.of();
+
+    public TrendingService(ArticleRepository articleRepository, TrendingConfig.TrendingProperties trendingProperties, Clock clock) {
+        this.articleRepository = articleRepository;
+        this.topK = trendingProperties.getTopK();
+        this.articleActivities = new SlidingWindowCounter<>(
+                trendingProperties.getWindow(), trendingProperties.getBucketCount(), trendingProperties.getMaxKeysPerBucket(), clock
+        );
+        this.hashtagUsages = new SlidingWindowCounter<>(
+                trendingProperties.getWindow(), trendingProperties.getBucketCount(), trendingProperties.getMaxKeysPerBucket(), clock
+        );
+        this.countedEventIds = Caffeine.newBuilder()
+                .expireAfterWrite(trendingProperties.getWindow())
+                .maximumSize((long) trendingProperties.getBucketCount() * trendingProperties.getMaxKeysPerBucket())
+                .build();
+    }
+
+    public void recordArticleCreated(Long articleId, Collection<String> hashtagNames) {
+        if (articleId != null) {
+            afterCommit(() -> articleActivities.increment(articleId));
+        }
+        recordHashtagsUsed(hashtagNames);
+    }
+
+    public void recordCommentAdded(Long articleId) {
+        afterCommit(() -> articleActivities.increment(articleId));
+    }
+
+    public void recordHashtagsUsed(Collection<String> hashtagNames) {
+        afterCommit(() -> hashtagNames.forEach(hashtagUsages::increment));
+    }
+
+    /**
+     * 새 게시글의 해시태그는 {@link HashtagsChanged} 로 함께 오므로, 여기서는 게시글 활동만 센다.
+     */
+    @EventListener
+    public void onArticleCreated(ArticleCreated event) {
+        if (isFirstDelivery()) {
+            recordArticleCreated(event.articleId(), List.of());
+        }
+    }
+
+    @EventListener
+    public void onHashtagsChanged(HashtagsChanged event) {
+        if (event.addedHashtagNames() != null && isFirstDelivery()) {
+            recordHashtagsUsed(event.addedHashtagNames());
+        }
+    }
+
+    @EventListener
+    public void onCommentAdded(CommentAdded event) {
+        if (isFirstDelivery()) {
+            recordCommentAdded(event.articleId());
+        }
+    }
+
+    public List<TrendingArticleDto> getTrendingArticles() {
+        return trendingArticles;
+    }
+
+    public List<TrendingHashtagDto> getTrendingHashtags() {
+        return trendingHashtags;
+    }
+
+    /**
+     * 인기 순위를 다시 계산한다. 게시글 제목도 이때 함께 읽어 두고, 그 사이 삭제된 게시글은 뺀다.
+     */
+    @Scheduled(fixedDelayString = "${board.trending.refresh-interval}")
+    public void refresh() {
+        List<Map.Entry<Long, Long>> topArticles = articleActivities.topK(topK);
+        Map<Long, Article> articles = articleRepository.findAllById(topArticles.stream().map(Map.Entry::getKey).toList())
+                .stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+
+        trendingArticles = topArticles.stream()
+                .filter(entry -> articles.containsKey(entry.getKey()))
+                .map(entry -> TrendingArticleDto.of(entry.getKey(), articles.get(entry.getKey()).getTitle(), entry.getValue()))
+                .toList();
+        trendingHashtags = hashtagUsages.topK(topK).stream()
+                .map(entry -> TrendingHashtagDto.of(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+
+    /**
+     * @return 전달 중인 이벤트를 처음 받았으면 {@code true}. 아웃박스를 거치지 않은 이벤트는 다시 전달되지 않으므로 항상 {@code true}
+     */
+    private boolean isFirstDelivery() {
+        Long eventId = DomainEventContext.currentEventId();
+        return eventId == null || countedEventIds.asMap().putIfAbsent(eventId, Boolean.TRUE) == null;
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+}
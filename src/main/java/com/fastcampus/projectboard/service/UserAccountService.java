@@ -3,6 +3,7 @@ package com.fastcampus.projectboard.service;
 import com.fastcampus.projectboard.domain.UserAccount;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,10 +12,13 @@ import java.util.Optional;
 
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "board.service", histogram = true)
 @Service
 public class UserAccountService {
 
     private final UserAccountRepository userAccountRepository;
+    private final AuthorIndexService authorIndexService;
+    private final ChangeLogService changeLogService;
 
     @Transactional(readOnly = true)
     public Optional<UserAccountDto> searchUser(String username) {
@@ -23,9 +27,13 @@ public class UserAccountService {
     }
 
     public UserAccountDto saveUser(String username, String password, String email, String nickname, String memo) {
-        return UserAccountDto.from(
+        UserAccountDto userAccountDto = UserAccountDto.from(
                 userAccountRepository.save(UserAccount.of(username, password, email, nickname, memo, username))
         );
+        authorIndexService.index(userAccountDto.userId(), userAccountDto.nickname());
+        changeLogService.recordUserAccount(userAccountDto.userId());
+
+        return userAccountDto;
     }
 
 }
\ No newline at end of file
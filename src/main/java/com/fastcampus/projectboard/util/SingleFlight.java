@@ -0,0 +1,84 @@
+package com.fastcampus.projectboard.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 조회를 하나로 합친다.
+ *
+ * <p>
+ * 키마다 처음 들어온 요청만 직접 조회하고, 그 조회가 끝나기 전에 같은 키로 들어온 요청은 그 결과(또는 예외)를 함께 받는다.
+ * 조회가 끝나면 키를 비우므로 결과를 캐시하지는 않는다. 기다림은 키별로 따로 이뤄져서, 느린 키가 다른 키를 막지 않는다.
+ * 기다리는 요청은 {@code timeout} 이 지나면 더 기다리지 않고 직접 조회한다.
+ *
+ * @param <K> 조회 키. {@code equals}, {@code hashCode} 가 조회 조건을 모두 반영해야 한다.
+ * @param <V> 조회 결과. 여러 스레드가 함께 보므로 바꿀 수 없는 값이어야 한다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * @param timeout 먼저 시작된 조회를 기다릴 최대 시간
+     */
+    public SingleFlight(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalescedCount.increment();
+            return await(existing, loader);
+        }
+
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * @return 먼저 시작된 조회에 합류한 요청 수 (누적)
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+
+    private V await(CompletableFuture<V> call, Supplier<V> loader) {
+        try {
+            return call.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return loader.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("먼저 시작된 조회를 기다리다가 중단되었습니다.", e);
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.fastcampus.projectboard.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최근 일정 시간 동안의 키별 건수를 세는 슬라이딩 윈도 카운터.
+ *
+ * <p>
+ * 윈도를 같은 길이의 시간 버킷 N개로 나누고, 버킷을 링으로 돌려 쓴다. 오래된 버킷은 다시 쓸 차례가 오면 비운다.
+ * 버킷 하나에 들어가는 키 수에 상한을 둬서 메모리가 무한히 늘지 않게 하고, 상한을 넘은 새 키는 그 버킷에서 세지 않는다.
+ * 쓰기는 락 없이 처리한다. 버킷을 교체하는 순간에 들어온 몇 건은 유실될 수 있는데, 인기 순위 용도로는 문제없다.
+ *
+ * @param <K> 집계 키
+ */
+public class SlidingWindowCounter<K> {
+
+    private final Clock clock;
+    private final long bucketMillis;
+    private final int maxKeysPerBucket;
+    private final AtomicLongArray bucketEpochs;
+    private final AtomicReferenceArray<Map<K, LongAdder>> buckets;
+
+    /**
+     * @param window 집계할 기간
+     * @param bucketCount 기간을 나눌 버킷 수. 많을수록 윈도가 부드럽게 밀리고 메모리를 더 쓴다.
+     * @param maxKeysPerBucket 버킷 하나에 담을 최대 키 수
+     */
+    public SlidingWindowCounter(Duration window, int bucketCount, int maxKeysPerBucket, Clock clock) {
+        this.clock = clock;
+        this.bucketMillis = Math.max(1L, window.toMillis() / bucketCount);
+        this.maxKeysPerBucket = maxKeysPerBucket;
+        this.bucketEpochs = new AtomicLongArray(bucketCount);
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            bucketEpochs.set(i, -1L);
+            buckets.set(i, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void increment(K key) {
+        add(key, 1L);
+    }
+
+    public void add(K key, long amount) {
+        Map<K, LongAdder> bucket = currentBucket();
+        LongAdder counter = bucket.get(key);
+        if (counter == null) {
+            if (bucket.size() >= maxKeysPerBucket) {
+                return;
+            }
+            counter = bucket.computeIfAbsent(key, k -> new LongAdder());
+        }
+        counter.add(amount);
+    }
+
+    /**
+     * 윈도 안의 건수가 많은 순으로 상위 {@code limit} 개 키를 구한다. 키 수를 n 이라 할 때 O(n log limit) 이므로, 요청마다 부르지 말고 주기적으로 계산해 둔다.
+     */
+    public List<Map.Entry<K, Long>> topK(int limit) {
+        Map<K, Long> totals = new HashMap<>();
+        long currentEpoch = epoch();
+        for (int i = 0; i < buckets.length(); i++) {
+            long bucketEpoch = bucketEpochs.get(i);
+            if (bucketEpoch < 0 || currentEpoch - bucketEpoch >= buckets.length()) {
+                continue;
+            }
+            buckets.get(i).forEach((key, counter) -> totals.merge(key, counter.sum(), Long::sum));
+        }
+
+        PriorityQueue<Map.Entry<K, Long>> top = new PriorityQueue<>(limit + 1, Map.Entry.comparingByValue());
+        for (Map.Entry<K, Long> entry : totals.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            top.offer(Map.entry(entry.getKey(), entry.getValue()));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Map.Entry<K, Long>> sorted = new ArrayList<>(top);
+        sorted.sort(Map.Entry.<K, Long>comparingByValue().reversed());
+
+        return sorted;
+    }
+
+
+    private long epoch() {
+        return clock.millis() / bucketMillis;
+    }
+
+    private Map<K, LongAdder> currentBucket() {
+        long currentEpoch = epoch();
+        int slot = (int) (currentEpoch % buckets.length());
+        long bucketEpoch = bucketEpochs.get(slot);
+        if (bucketEpoch != currentEpoch && bucketEpochs.compareAndSet(slot, bucketEpoch, currentEpoch)) {
+            buckets.set(slot, new ConcurrentHashMap<>());
+        }
+
+        return buckets.get(slot);
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.fastcampus.projectboard.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문자열 부분 일치({@code LIKE '%검색어%'}) 검색을 위한 메모리 n-gram 색인.
+ *
+ * <p>
+ * 값마다 길이 1~3 의 모든 부분 문자열을 색인한다.
+ * 검색어가 3자 이하면 색인 하나를 그대로 읽는다. 더 길면 검색어의 3-gram 중 색인된 키가 가장 적은 것 하나만 후보로 삼고,
+ * 후보의 값에 검색어가 실제로 포함되는지 확인한다. 검색어의 3-gram 중 하나라도 색인에 없으면 바로 빈 결과다.
+ * 앞부분 일치는 부분 일치에 포함되므로 따로 색인하지 않는다. 대소문자는 구분하지 않는다.
+ *
+ * @param <K> 값을 가리키는 키
+ */
+public class SubstringIndex<K> {
+
+    private static final int GRAM_SIZE = 3;
+
+    private final Map<K, String> values = new HashMap<>();
+    private final Map<String, Set<K>> postings = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 키의 값을 색인한다. 이미 색인된 키면 이전 값을 지우고 새 값으로 바꾼다.
+     */
+    public void put(K key, String value) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+
+            String normalized = normalize(value);
+            values.put(key, normalized);
+            grams(normalized).forEach(gram -> postings.computeIfAbsent(gram, ignored -> new HashSet<>()).add(key));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 값에 검색어가 포함된 키. 검색어가 비어 있으면 빈 집합
+     */
+    public Set<K> findContaining(String query) {
+        if (query == null || query.isEmpty()) {
+            return Set.of();
+        }
+
+        String normalized = normalize(query);
+        lock.readLock().lock();
+        try {
+            if (normalized.length() <= GRAM_SIZE) {
+                return Set.copyOf(postings.getOrDefault(normalized, Set.of()));
+            }
+
+            List<Set<K>> candidates = new ArrayList<>();
+            for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+                Set<K> posting = postings.get(normalized.substring(i, i + GRAM_SIZE));
+                if (posting == null) {
+                    return Set.of();
+                }
+                candidates.add(posting);
+            }
+            candidates.sort(Comparator.comparingInt(Set::size));
+
+            Set<K> result = new HashSet<>();
+            for (K key : candidates.get(0)) {
+                if (values.get(key).contains(normalized)) {
+                    result.add(key);
+                }
+            }
+
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return values.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    private void removeInternal(K key) {
+        String previous = values.remove(key);
+        if (previous == null) {
+            return;
+        }
+
+        for (String gram : grams(previous)) {
+            Set<K> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start < value.length(); start++) {
+            for (int end = start + 1; end <= Math.min(start + GRAM_SIZE, value.length()); end++) {
+                grams.add(value.substring(start, end));
+            }
+        }
+
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -1007,4 +1007,9 @@ insert into article_hashtag (article_id, hashtag_id) values
                                                          (119, 12),
                                                          (120, 18),
                                                          (122, 18)
-;
\ No newline at end of file
+;
+-- 대소문자 구분 없는 검색용 컬럼 채우기 (엔티티로 저장할 때는 자동으로 채워진다)
+update user_account set created_by_normalized = lower(created_by);
+update article set title_normalized = lower(title), created_by_normalized = lower(created_by);
+update article_comment set created_by_normalized = lower(created_by);
+update hashtag set hashtag_name_normalized = lower(hashtag_name), created_by_normalized = lower(created_by);
@@ -0,0 +1,107 @@
+package com.fastcampus.projectboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드 모드와 가상 스레드 모드의 처리량을 비교하는 벤치마크.
+ * 기본 테스트에서는 제외되고 {@code ./gradlew benchmark}, {@code ./gradlew benchmark -PvirtualThreads} 로 각각 실행해서 결과를 비교한다.
+ */
+@Tag("benchmark")
+@DisplayName("벤치마크 - 요청 스레드 모델별 처리량")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ThreadModelBenchmarkTest {
+
+    private static final int WARMUP_REQUESTS = 200;
+    private static final int CONCURRENCY = 1_000;
+    private static final int REQUESTS = 10_000;
+
+    @LocalServerPort private int port;
+    @Value("${spring.threads.virtual.enabled:false}") private boolean virtualThreadsEnabled;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    @DisplayName("동시 요청을 많이 보내면, 모두 성공하고 처리량과 지연 시간을 출력한다.")
+    @Test
+    void givenHighConcurrency_whenRequestingArticlePages_thenAllSucceedAndReportsThroughput() throws Exception {
+        // Given
+        List<URI> targets = List.of(
+                URI.create("http://localhost:" + port + "/articles"),
+                URI.create("http://localhost:" + port + "/api/articles?size=20")
+        );
+        run(targets, WARMUP_REQUESTS, CONCURRENCY);
+
+        // When
+        long startedAt = System.nanoTime();
+        Result result = run(targets, REQUESTS, CONCURRENCY);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // Then
+        System.out.printf(
+                "[benchmark] virtualThreads=%s, requests=%d, concurrency=%d, elapsed=%dms, throughput=%.1f req/s, p50=%dms, p99=%dms%n",
+                virtualThreadsEnabled, REQUESTS, CONCURRENCY, elapsed.toMillis(),
+                REQUESTS / (elapsed.toNanos() / 1_000_000_000.0),
+                result.percentileMillis(50), result.percentileMillis(99)
+        );
+        assertThat(result.failures()).isZero();
+    }
+
+
+    private Result run(List<URI> targets, int requests, int concurrency) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicInteger failures = new AtomicInteger();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(requests));
+        List<CompletableFuture<?>> futures = new ArrayList<>(requests);
+
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            HttpRequest request = HttpRequest.newBuilder(targets.get(i % targets.size()))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            long sentAt = System.nanoTime();
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, throwable) -> {
+                        latencies.add(System.nanoTime() - sentAt);
+                        if (throwable != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        inFlight.release();
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+
+        return new Result(failures.get(), latencies.stream().sorted().toList());
+    }
+
+    private record Result(int failures, List<Long> sortedLatencies) {
+        long percentileMillis(int percentile) {
+            if (sortedLatencies.isEmpty()) {
+                return 0;
+            }
+            int index = Math.min(sortedLatencies.size() - 1, (int) Math.ceil(percentile / 100.0 * sortedLatencies.size()) - 1);
+            return Duration.ofNanos(sortedLatencies.get(Math.max(index, 0))).toMillis();
+        }
+    }
+
+}
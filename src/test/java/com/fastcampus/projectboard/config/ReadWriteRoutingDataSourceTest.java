@@ -0,0 +1,96 @@
+package com.fastcampus.projectboard.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("읽기/쓰기 데이터 소스 분기")
+class ReadWriteRoutingDataSourceTest {
+
+    private final EmbeddedDatabase primary = createDatabase("primary");
+    private final EmbeddedDatabase replica = createDatabase("replica");
+    private final ReadWriteRoutingDataSource sut = new ReadWriteRoutingDataSource(primary, replica);
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(sut);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(sut));
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션이면, 복제본에서 조회한다.")
+    @Test
+    void givenReadOnlyTransaction_whenQuerying_thenUsesReplica() {
+        // Given
+        transactionTemplate.setReadOnly(true);
+
+        // When
+        String actual = transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select name from marker", String.class));
+
+        // Then
+        assertThat(actual).isEqualTo("replica");
+    }
+
+    @DisplayName("읽기/쓰기 트랜잭션이거나 트랜잭션이 없으면, 원본에서 조회한다.")
+    @Test
+    void givenReadWriteTransactionOrNoTransaction_whenQuerying_thenUsesPrimary() {
+        // Given
+
+        // When
+        String inTransaction = transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select name from marker", String.class));
+        String withoutTransaction = jdbcTemplate.queryForObject("select name from marker", String.class);
+
+        // Then
+        assertThat(inTransaction).isEqualTo("primary");
+        assertThat(withoutTransaction).isEqualTo("primary");
+    }
+
+    @DisplayName("빈이 소멸되면, 원본과 복제본 커넥션 풀을 모두 닫는다.")
+    @Test
+    void givenPools_whenDestroying_thenClosesBothPools() {
+        // Given
+        HikariDataSource primaryPool = createPool("primary");
+        HikariDataSource replicaPool = createPool("replica");
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(primaryPool, replicaPool);
+        new JdbcTemplate(routingDataSource).queryForObject("select 1", Integer.class);
+
+        // When
+        routingDataSource.destroy();
+
+        // Then
+        assertThat(primaryPool.isClosed()).isTrue();
+        assertThat(replicaPool.isClosed()).isTrue();
+    }
+
+
+    private static HikariDataSource createPool(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + System.nanoTime());
+
+        return dataSource;
+    }
+
+    private static EmbeddedDatabase createDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name + "-" + System.nanoTime())
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table marker (name varchar(20))");
+        jdbcTemplate.update("insert into marker (name) values (?)", name);
+
+        return database;
+    }
+
+}
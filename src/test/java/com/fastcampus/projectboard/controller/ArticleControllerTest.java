@@ -4,13 +4,19 @@ import com.fastcampus.projectboard.config.TestSecurityConfig;
 import com.fastcampus.projectboard.domain.constant.FormStatus;
 import com.fastcampus.projectboard.domain.constant.SearchType;
 import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleFragmentsDto;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
 import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
 import com.fastcampus.projectboard.dto.HashtagDto;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.dto.request.ArticleRequest;
 import com.fastcampus.projectboard.dto.response.ArticleResponse;
+import com.fastcampus.projectboard.service.ArticleFragmentService;
+import com.fastcampus.projectboard.service.ArticleLoadCoalescingService;
 import com.fastcampus.projectboard.service.ArticleService;
+import com.fastcampus.projectboard.service.ArticleViewCountService;
 import com.fastcampus.projectboard.service.PaginationService;
+import com.fastcampus.projectboard.service.TrendingService;
 import com.fastcampus.projectboard.util.FormDataEncoder;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -23,14 +29,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -41,7 +53,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @DisplayName("View 컨트롤러 - 게시글")
-@Import({TestSecurityConfig.class, FormDataEncoder.class})
+@Import({TestSecurityConfig.class, FormDataEncoder.class, ArticleLoadCoalescingService.class})
 @WebMvcTest(ArticleController.class)
 class ArticleControllerTest {
 
@@ -50,7 +62,10 @@ class ArticleControllerTest {
     private final FormDataEncoder formDataEncoder;
 
     @MockBean private ArticleService articleService;
+    @MockBean private ArticleFragmentService articleFragmentService;
+    @MockBean private ArticleViewCountService articleViewCountService;
     @MockBean private PaginationService paginationService;
+    @MockBean private TrendingService trendingService;
 
 
     ArticleControllerTest(
@@ -77,7 +92,9 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("articles"))
                 .andExpect(model().attributeExists("paginationBarNumbers"))
                 .andExpect(model().attributeExists("searchTypes"))
-                .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG));
+                .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG))
+                .andExpect(model().attributeExists("trendingArticles"))
+                .andExpect(model().attributeExists("trendingHashtags"));
         then(articleService).should().searchArticles(eq(null), eq(null), any(Pageable.class));
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
@@ -158,6 +175,7 @@ class ArticleControllerTest {
         long totalCount = 1L;
         given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto());
         given(articleService.getArticleCount()).willReturn(totalCount);
+        given(articleFragmentService.getFragments(any(), any(), any(), any())).willReturn(ArticleFragmentsDto.of(null, "", ""));
 
         // When & Then
         mvc.perform(get("/articles/" + articleId))
@@ -170,6 +188,56 @@ class ArticleControllerTest {
                 .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG));
         then(articleService).should().getArticleWithComments(articleId);
         then(articleService).should().getArticleCount();
+        then(articleFragmentService).should().getFragments(any(), any(), any(), any());
+    }
+
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 페이지 - 변경이 없으면 본문을 만들지 않고 304 응답")
+    @Test
+    void givenUnmodifiedArticle_whenRequestingArticleViewConditionally_thenReturnsNotModified() throws Exception {
+        // Given
+        Long articleId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2022, 1, 1, 0, 0);
+        given(articleService.getArticleVersion(articleId)).willReturn(Optional.of(ArticleVersionDto.of(articleId, modifiedAt, null, 0L)));
+
+        // When & Then
+        mvc.perform(
+                        get("/articles/" + articleId)
+                                .header(HttpHeaders.IF_MODIFIED_SINCE, DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC)))
+                )
+                .andExpect(status().isNotModified())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+        then(articleService).should().getArticleVersion(articleId);
+        then(articleService).should(never()).getArticleCount();
+        then(articleService).should(never()).getArticleWithComments(any());
+        then(articleFragmentService).shouldHaveNoInteractions();
+        then(articleViewCountService).should().increaseViewCount(articleId);
+    }
+
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 페이지 - 같은 사용자라도 CSRF 토큰이 바뀌면 (다시 로그인) 304 대신 새 페이지 응답")
+    @Test
+    void givenRotatedCsrfToken_whenRequestingArticleViewConditionally_thenReturnsArticleView() throws Exception {
+        // Given
+        Long articleId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2022, 1, 1, 0, 0);
+        given(articleService.getArticleVersion(articleId)).willReturn(Optional.of(ArticleVersionDto.of(articleId, modifiedAt, null, 0L)));
+        given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto());
+        given(articleService.getArticleCount()).willReturn(1L);
+        given(articleFragmentService.getFragments(any(), any(), any(), any())).willReturn(ArticleFragmentsDto.of(null, "", ""));
+        MockHttpSession session = new MockHttpSession();
+        String eTag = mvc.perform(get("/articles/" + articleId).session(session))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId).session(session).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        mvc.perform(get("/articles/" + articleId).session(new MockHttpSession()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/detail"));
     }
 
     @Disabled("구현 중")
@@ -0,0 +1,201 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.config.TestSecurityConfig;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleFeedDto;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
+import com.fastcampus.projectboard.dto.ArticleViewCountDto;
+import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.service.ArticleService;
+import com.fastcampus.projectboard.service.ArticleViewCountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 게시글 피드")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(ArticleFeedApiController.class)
+class ArticleFeedApiControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean private ArticleService articleService;
+    @MockBean private ArticleViewCountService articleViewCountService;
+
+
+    ArticleFeedApiControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+
+    @DisplayName("[API][GET] 게시글 피드 - 다음 페이지가 있으면, 커서 헤더와 함께 NDJSON 으로 스트리밍한다.")
+    @Test
+    void givenCursorAndSize_whenRequestingFeed_thenStreamsArticlesWithNextCursor() throws Exception {
+        // Given
+        Long cursor = 100L;
+        given(articleService.getArticleFeed(cursor, null, 3)).willReturn(createArticleFeedDtos(99L, 3));
+
+        // When
+        MvcResult result = mvc.perform(get("/api/feed/articles").queryParam("cursor", "100").queryParam("size", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string(ArticleFeedApiController.NEXT_CURSOR_HEADER, "98"))
+                .andExpect(content().string(containsString("\"id\":99")))
+                .andExpect(content().string(not(containsString("\"id\":97"))));
+        then(articleService).should().getArticleFeed(cursor, null, 3);
+    }
+
+    @DisplayName("[API][GET] 해시태그 게시글 피드 - 마지막 페이지면, 커서 헤더 없이 스트리밍한다.")
+    @Test
+    void givenHashtagName_whenRequestingLastFeedPage_thenStreamsArticlesWithoutNextCursor() throws Exception {
+        // Given
+        String hashtagName = "java";
+        given(articleService.getArticleFeed(null, hashtagName, 21)).willReturn(createArticleFeedDtos(5L, 5));
+
+        // When
+        MvcResult result = mvc.perform(get("/api/feed/hashtags/" + hashtagName + "/articles"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ArticleFeedApiController.NEXT_CURSOR_HEADER));
+        then(articleService).should().getArticleFeed(null, hashtagName, 21);
+    }
+
+    @DisplayName("[API][GET] 검색식 게시글 피드 - 검색 결과를 NDJSON 으로 스트리밍한다.")
+    @Test
+    void givenSearchQuery_whenSearchingFeed_thenStreamsMatchingArticles() throws Exception {
+        // Given
+        String query = "#java author:uno";
+        given(articleService.searchArticleFeed(query, null, 21)).willReturn(createArticleFeedDtos(3L, 3));
+
+        // When
+        MvcResult result = mvc.perform(get("/api/feed/search").queryParam("q", query))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().doesNotExist(ArticleFeedApiController.NEXT_CURSOR_HEADER))
+                .andExpect(content().string(containsString("\"id\":3")));
+        then(articleService).should().searchArticleFeed(query, null, 21);
+    }
+
+    @DisplayName("[API][GET] 많이 본 게시글 - 조회수 순으로 반환한다.")
+    @Test
+    void givenSize_whenRequestingMostViewedArticles_thenReturnsArticlesOrderedByViewCount() throws Exception {
+        // Given
+        List<ArticleFeedDto> articles = createArticleFeedDtos(2L, 2);
+        given(articleViewCountService.getMostViewedArticles(2)).willReturn(List.of(
+                ArticleViewCountDto.of(articles.get(0), 10L),
+                ArticleViewCountDto.of(articles.get(1), 3L)
+        ));
+
+        // When & Then
+        mvc.perform(get("/api/feed/articles/most-viewed").queryParam("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].article.id").value(2))
+                .andExpect(jsonPath("$[0].viewCount").value(10))
+                .andExpect(jsonPath("$[1].article.id").value(1));
+        then(articleViewCountService).should().getMostViewedArticles(2);
+    }
+
+    @DisplayName("[API][GET] 게시글 단건 - 정상 호출이면, ETag 와 함께 게시글을 반환한다.")
+    @Test
+    void givenArticleId_whenRequestingArticle_thenReturnsArticleWithETag() throws Exception {
+        // Given
+        Long articleId = 1L;
+        ArticleVersionDto version = ArticleVersionDto.of(articleId, LocalDateTime.of(2024, 1, 1, 0, 0), null, 0L);
+        given(articleService.getArticleVersion(articleId)).willReturn(Optional.of(version));
+        given(articleService.getArticle(articleId)).willReturn(createArticleDto(articleId));
+
+        // When & Then
+        mvc.perform(get("/api/feed/articles/" + articleId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, version.articleETag()))
+                .andExpect(jsonPath("$.id").value(articleId))
+                .andExpect(jsonPath("$.title").value("title"));
+        then(articleService).should().getArticleVersion(articleId);
+        then(articleService).should().getArticle(articleId);
+        then(articleViewCountService).should().increaseViewCount(articleId);
+    }
+
+    @DisplayName("[API][GET] 게시글 단건 - ETag 가 같으면, 게시글을 읽지 않고 304 를 반환한다.")
+    @Test
+    void givenMatchingETag_whenRequestingArticle_thenReturnsNotModified() throws Exception {
+        // Given
+        Long articleId = 1L;
+        ArticleVersionDto version = ArticleVersionDto.of(articleId, LocalDateTime.of(2024, 1, 1, 0, 0), null, 0L);
+        given(articleService.getArticleVersion(articleId)).willReturn(Optional.of(version));
+
+        // When & Then
+        mvc.perform(get("/api/feed/articles/" + articleId).header(HttpHeaders.IF_NONE_MATCH, version.articleETag()))
+                .andExpect(status().isNotModified());
+        then(articleService).should().getArticleVersion(articleId);
+        then(articleService).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("[API][GET] 게시글 단건 - 게시글이 없으면, 404 를 반환한다.")
+    @Test
+    void givenNonexistentArticleId_whenRequestingArticle_thenReturnsNotFound() throws Exception {
+        // Given
+        Long articleId = 0L;
+        given(articleService.getArticleVersion(articleId)).willReturn(Optional.empty());
+
+        // When & Then
+        mvc.perform(get("/api/feed/articles/" + articleId))
+                .andExpect(status().isNotFound());
+        then(articleService).should().getArticleVersion(articleId);
+    }
+
+
+    private List<ArticleFeedDto> createArticleFeedDtos(Long firstId, int count) {
+        return LongStream.range(0, count)
+                .mapToObj(i -> ArticleFeedDto.of(firstId - i, "title " + (firstId - i), LocalDateTime.now(), "uno", "Uno"))
+                .toList();
+    }
+
+    private ArticleDto createArticleDto(Long articleId) {
+        return ArticleDto.of(
+                articleId,
+                UserAccountDto.of("uno", "pw", "uno@mail.com", "Uno", "memo", LocalDateTime.now(), "uno", LocalDateTime.now(), "uno"),
+                "title",
+                "content",
+                Set.of(),
+                LocalDateTime.now(),
+                "uno",
+                LocalDateTime.now(),
+                "uno"
+        );
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.fastcampus.projectboard.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DTO - 게시글 검색식 해석 테스트")
+class ArticleSearchConditionTest {
+
+    @DisplayName("여러 접두어가 섞인 검색식을 해석하면, 항목별 조건으로 나눈다.")
+    @Test
+    void givenQueryWithPrefixes_whenParsing_thenSplitsIntoConditions() {
+        // Given
+        String query = "spring title:\"hello world\" content:jpa #java tag:kotlin author:uno after:2024-01-01 before:2024-02-01";
+
+        // When
+        ArticleSearchCondition actual = ArticleSearchCondition.from(query);
+
+        // Then
+        assertThat(actual.keywords()).containsExactly("spring");
+        assertThat(actual.titleKeywords()).containsExactly("hello world");
+        assertThat(actual.contentKeywords()).containsExactly("jpa");
+        assertThat(actual.hashtagNames()).containsExactly("java", "kotlin");
+        assertThat(actual.authors()).containsExactly("uno");
+        assertThat(actual.authorUserIds()).isNull();
+        assertThat(actual.after()).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(actual.before()).isEqualTo(LocalDate.of(2024, 2, 1));
+    }
+
+    @DisplayName("알 수 없는 접두어나 잘못된 날짜가 있으면, 그 항목은 일반 검색어로 취급한다.")
+    @Test
+    void givenUnknownPrefixAndInvalidDate_whenParsing_thenTreatsThemAsKeywords() {
+        // Given
+        String query = "foo:bar after:yesterday";
+
+        // When
+        ArticleSearchCondition actual = ArticleSearchCondition.from(query);
+
+        // Then
+        assertThat(actual.keywords()).isEqualTo(List.of("foo:bar", "after:yesterday"));
+        assertThat(actual.after()).isNull();
+    }
+
+    @DisplayName("빈 검색식을 해석하면, 빈 조건을 반환한다.")
+    @Test
+    void givenBlankQuery_whenParsing_thenReturnsEmptyCondition() {
+        // Given
+
+        // When
+        ArticleSearchCondition actual = ArticleSearchCondition.from("  \"\" ");
+
+        // Then
+        assertThat(actual.isEmpty()).isTrue();
+    }
+
+}
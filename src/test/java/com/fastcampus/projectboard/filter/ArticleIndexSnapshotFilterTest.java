@@ -0,0 +1,130 @@
+package com.fastcampus.projectboard.filter;
+
+import com.fastcampus.projectboard.service.ArticleIndexSnapshotService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@DisplayName("필터 - 게시글 목록 스냅샷")
+@ExtendWith(MockitoExtension.class)
+class ArticleIndexSnapshotFilterTest {
+
+    @InjectMocks private ArticleIndexSnapshotFilter sut;
+
+    @Mock private ArticleIndexSnapshotService articleIndexSnapshotService;
+
+    @DisplayName("비로그인 사용자가 해시태그 게시글 목록을 요청하면, 미리 렌더링된 화면을 바로 응답한다.")
+    @Test
+    void givenAnonymousHashtagListingRequest_whenFiltering_thenRespondsWithSnapshot() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+        request.setParameter("searchType", "HASHTAG");
+        request.setParameter("searchValue", "java");
+        request.setParameter("page", "1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        given(articleIndexSnapshotService.isEnabled()).willReturn(true);
+        given(articleIndexSnapshotService.getSnapshot("java", 1)).willReturn(Optional.of("<html></html>".getBytes(StandardCharsets.UTF_8)));
+
+        // When
+        sut.doFilter(request, response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getHeader(ArticleIndexSnapshotFilter.SNAPSHOT_HEADER)).isEqualTo("hit");
+        assertThat(response.getContentAsString()).isEqualTo("<html></html>");
+    }
+
+    @DisplayName("외부 요청이 렌더링 헤더를 보내도, 토큰이 맞지 않으면 스냅샷으로 응답한다.")
+    @Test
+    void givenRenderHeaderWithWrongToken_whenFiltering_thenRespondsWithSnapshot() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+        request.addHeader(ArticleIndexSnapshotService.RENDER_HEADER, "true");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        given(articleIndexSnapshotService.isEnabled()).willReturn(true);
+        given(articleIndexSnapshotService.isRenderRequest("true")).willReturn(false);
+        given(articleIndexSnapshotService.getSnapshot(null, 0)).willReturn(Optional.of("<html></html>".getBytes(StandardCharsets.UTF_8)));
+
+        // When
+        sut.doFilter(request, response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getHeader(ArticleIndexSnapshotFilter.SNAPSHOT_HEADER)).isEqualTo("hit");
+    }
+
+    @DisplayName("스냅샷을 만들려고 보낸 요청이면, 스냅샷을 쓰지 않고 실제로 렌더링한다.")
+    @Test
+    void givenRenderRequest_whenFiltering_thenPassesThrough() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+        request.addHeader(ArticleIndexSnapshotService.RENDER_HEADER, "token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        given(articleIndexSnapshotService.isEnabled()).willReturn(true);
+        given(articleIndexSnapshotService.isRenderRequest("token")).willReturn(true);
+
+        // When
+        sut.doFilter(request, response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isSameAs(request);
+        then(articleIndexSnapshotService).should(never()).getSnapshot(any(), anyInt());
+    }
+
+    @DisplayName("정렬을 바꾼 게시글 목록 요청은, 스냅샷을 찾지 않고 그대로 통과시킨다.")
+    @Test
+    void givenSortedListingRequest_whenFiltering_thenPassesThrough() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+        request.setParameter("sort", "title");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        given(articleIndexSnapshotService.isEnabled()).willReturn(true);
+
+        // When
+        sut.doFilter(request, response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isSameAs(request);
+        then(articleIndexSnapshotService).should().isEnabled();
+        then(articleIndexSnapshotService).should().isRenderRequest(null);
+        then(articleIndexSnapshotService).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("로그인 사용자의 게시글 목록 요청은, 스냅샷을 쓰지 않는다.")
+    @Test
+    void givenAuthenticatedRequest_whenFiltering_thenPassesThrough() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+        request.setUserPrincipal(() -> "uno");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        sut.doFilter(request, response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isSameAs(request);
+        then(articleIndexSnapshotService).shouldHaveNoInteractions();
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.fastcampus.projectboard.monitoring;
+
+import com.fastcampus.projectboard.config.MetricsConfig;
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("메서드 타이머 - 검색 유형 태그")
+class SearchTypeTagsProviderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("검색 유형 인자가 있는 메서드를 호출하면, 검색 유형 태그로 시간을 기록한다.")
+    @Test
+    void givenSearchType_whenCallingTimedMethod_thenRecordsWithSearchTypeTag() {
+        // Given
+        SampleService sut = proxy(new SampleService());
+
+        // When
+        sut.search(SearchType.HASHTAG, "java");
+
+        // Then
+        assertThat(meterRegistry.get("board.service")
+                .tag("class", SampleService.class.getName())
+                .tag("method", "search")
+                .tag(SearchTypeTagsProvider.TAG_KEY, SearchType.HASHTAG.name())
+                .timer()
+                .count()
+        ).isEqualTo(1);
+    }
+
+    @DisplayName("검색 유형 인자가 없는 메서드를 호출하면, NONE 태그로 시간을 기록한다.")
+    @Test
+    void givenNoSearchType_whenCallingTimedMethod_thenRecordsWithNoneTag() {
+        // Given
+        SampleService sut = proxy(new SampleService());
+
+        // When
+        sut.search(null, null);
+        sut.count();
+
+        // Then
+        assertThat(meterRegistry.get("board.service")
+                .tag(SearchTypeTagsProvider.TAG_KEY, SearchTypeTagsProvider.NONE)
+                .timers()
+        ).hasSize(2);
+    }
+
+    @DisplayName("설정에 등록된 aspect 로 메서드를 호출하면, 기본 태그와 검색 유형 태그를 함께 기록한다.")
+    @Test
+    void givenConfiguredAspect_whenCallingTimedMethod_thenKeepsDefaultTags() {
+        // Given
+        SampleService sut = proxy(new SampleService());
+
+        // When
+        sut.count();
+
+        // Then
+        assertThat(meterRegistry.get("board.service").timer().getId().getTags())
+                .extracting(Tag::getKey)
+                .containsExactlyInAnyOrder("class", "method", SearchTypeTagsProvider.TAG_KEY, "exception");
+    }
+
+
+    private SampleService proxy(SampleService target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new MetricsConfig().timedAspect(meterRegistry));
+
+        return factory.getProxy();
+    }
+
+    @Timed("board.service")
+    static class SampleService {
+        public String search(SearchType searchType, String searchValue) {
+            return searchValue;
+        }
+
+        public long count() {
+            return 0L;
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.fastcampus.projectboard.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("느린 쿼리 - 링 버퍼 기록")
+class SlowQueryRecorderTest {
+
+    private static final Duration THRESHOLD = Duration.ofMillis(100);
+
+    @DisplayName("기준 시간보다 빠른 쿼리는 기록하지 않는다.")
+    @Test
+    void givenFastQuery_whenExecuted_thenDoesNotRecord() {
+        // Given
+        SlowQueryRecorder sut = new SlowQueryRecorder(THRESHOLD, 10, null);
+
+        // When
+        sut.afterExecution(execution("select * from article where id=?", 99));
+
+        // Then
+        assertThat(sut.snapshot()).isEmpty();
+    }
+
+    @DisplayName("느린 쿼리는 정규화한 SQL, 바인딩 형태와 함께 최근 것부터 보여준다.")
+    @Test
+    void givenSlowQueries_whenExecuted_thenRecordsNormalizedSqlInReverseOrder() {
+        // Given
+        SlowQueryRecorder sut = new SlowQueryRecorder(THRESHOLD, 10, null);
+
+        // When
+        sut.afterExecution(execution("select a1_0.id from article a1_0 where a1_0.id=?", 150));
+        sut.afterExecution(execution("select   h1_0.id\n from hashtag h1_0 where h1_0.hashtag_name in ('java', 'spring', 'jpa') limit 10", 300));
+
+        // Then
+        assertThat(sut.snapshot())
+                .extracting(SlowQueryEntry::normalizedSql, SlowQueryEntry::elapsedMillis, SlowQueryEntry::bindTypes)
+                .containsExactly(
+                        tuple("select h1_0.id from hashtag h1_0 where h1_0.hashtag_name in (?...) limit ?", 300L, List.of("Long")),
+                        tuple("select a1_0.id from article a1_0 where a1_0.id=?", 150L, List.of("Long"))
+                );
+    }
+
+    @DisplayName("버퍼 크기가 0 이면, 느린 쿼리도 기록하지 않고 쿼리 실행을 막지 않는다.")
+    @Test
+    void givenZeroCapacity_whenSlowQueryExecuted_thenDoesNotRecord() {
+        // Given
+        SlowQueryRecorder sut = new SlowQueryRecorder(THRESHOLD, 0, null);
+
+        // When
+        sut.afterExecution(execution("select 1", 101));
+
+        // Then
+        assertThat(sut.snapshot()).isEmpty();
+    }
+
+    @DisplayName("버퍼 크기가 음수이면, 만들 때 예외를 던진다.")
+    @Test
+    void givenNegativeCapacity_whenCreating_thenThrowsException() {
+        // Given
+
+        // When & Then
+        assertThatThrownBy(() -> new SlowQueryRecorder(THRESHOLD, -1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("버퍼가 가득 차면, 가장 오래된 항목부터 덮어쓴다.")
+    @Test
+    void givenFullBuffer_whenSlowQueryExecuted_thenOverwritesOldestEntry() {
+        // Given
+        SlowQueryRecorder sut = new SlowQueryRecorder(THRESHOLD, 2, null);
+
+        // When
+        sut.afterExecution(execution("select 1", 101));
+        sut.afterExecution(execution("select 2", 102));
+        sut.afterExecution(execution("select 3", 103));
+
+        // Then
+        assertThat(sut.snapshot())
+                .extracting(SlowQueryEntry::elapsedMillis)
+                .containsExactly(103L, 102L);
+    }
+
+
+    private SqlExecution execution(String sql, long elapsedMillis) {
+        return new SqlExecution(sql, List.of("Long"), List.of(1L), Duration.ofMillis(elapsedMillis).toNanos());
+    }
+
+}
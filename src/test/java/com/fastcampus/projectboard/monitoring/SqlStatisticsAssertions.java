@@ -0,0 +1,37 @@
+package com.fastcampus.projectboard.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트에서 코드 블록이 실행한 SQL 수를 검사하는 도우미. N+1 쿼리 회귀를 잡는 데 쓴다.
+ * 데이터 소스가 {@link SqlStatisticsDataSource} 로 감싸져 있어야 한다. ({@link SqlStatisticsDataSourcePostProcessor} 를 등록)
+ *
+ * <pre>{@code
+ * SqlStatisticsAssertions.assertStatementCountAtMost(3, () -> articleService.getArticleWithComments(1L));
+ * }</pre>
+ */
+public final class SqlStatisticsAssertions {
+
+    private SqlStatisticsAssertions() {}
+
+    public static SqlStatistics measure(Runnable work) {
+        SqlStatistics statistics = SqlStatisticsContext.open();
+        try {
+            work.run();
+        } finally {
+            SqlStatisticsContext.close(statistics);
+        }
+
+        return statistics;
+    }
+
+    public static SqlStatistics assertStatementCountAtMost(int maxStatementCount, Runnable work) {
+        SqlStatistics statistics = measure(work);
+        assertThat(statistics.getStatementCount())
+                .as("실행된 SQL 수 (%s)", statistics)
+                .isLessThanOrEqualTo(maxStatementCount);
+
+        return statistics;
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.fastcampus.projectboard.monitoring;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SQL 통계 - 요청/메서드별 SQL 수 측정")
+@Import(SqlStatisticsDataSourceTest.TestSqlStatisticsConfig.class)
+@DataJpaTest
+class SqlStatisticsDataSourceTest {
+
+    private final ArticleRepository articleRepository;
+    private final EntityManager entityManager;
+    private final DataSource dataSource;
+
+    SqlStatisticsDataSourceTest(
+            @Autowired ArticleRepository articleRepository,
+            @Autowired EntityManager entityManager,
+            @Autowired DataSource dataSource
+    ) {
+        this.articleRepository = articleRepository;
+        this.entityManager = entityManager;
+        this.dataSource = dataSource;
+    }
+
+    @DisplayName("전체 게시글을 조회하면, 실행된 SQL 수와 읽은 행 수가 기록된다.")
+    @Test
+    void givenTestData_whenSelectingArticles_thenRecordsStatementsAndRows() {
+        // Given
+
+        // When
+        SqlStatistics statistics = SqlStatisticsAssertions.measure(articleRepository::findAll);
+
+        // Then
+        assertThat(statistics.getStatementCount()).isPositive();
+        assertThat(statistics.getRowCount()).isGreaterThanOrEqualTo(123); // classpath:resources/data.sql 참조
+    }
+
+    @DisplayName("게시글 페이지와 작성자, 해시태그를 읽으면, 게시글 수와 상관없이 SQL 수가 일정하다.")
+    @Test
+    void givenArticlePage_whenReadingAssociations_thenStatementCountDoesNotGrowWithPageSize() {
+        // Given
+        entityManager.clear();
+
+        // When & Then
+        SqlStatisticsAssertions.assertStatementCountAtMost(5, () -> {
+            Page<Article> articles = articleRepository.findAll(PageRequest.of(0, 20));
+            List<Integer> hashtagCounts = articles.map(article -> article.getUserAccount().getUserId().length() + article.getHashtags().size()).toList();
+            assertThat(hashtagCounts).hasSize(20);
+        });
+    }
+
+    @DisplayName("측정 범위 밖에서 실행된 SQL 은 기록되지 않는다.")
+    @Test
+    void givenClosedScope_whenSelectingArticles_thenDoesNotRecord() {
+        // Given
+        SqlStatistics statistics = SqlStatisticsAssertions.measure(() -> {});
+
+        // When
+        articleRepository.findById(1L);
+
+        // Then
+        assertThat(statistics.getStatementCount()).isZero();
+    }
+
+    @DisplayName("SQL 을 실행하면, 기준 시간을 넘긴 SQL 만 바인딩 형태와 함께 리스너에게 알린다.")
+    @Test
+    void givenListenersWithThresholds_whenExecutingStatement_thenNotifiesOnlyListenersBelowElapsedTime() throws Exception {
+        // Given
+        List<SqlExecution> captured = new ArrayList<>();
+        List<SqlExecution> neverCaptured = new ArrayList<>();
+        SqlStatisticsDataSource sut = new SqlStatisticsDataSource(dataSource, () -> List.of(
+                captured::add,
+                new SqlExecutionListener() {
+                    @Override
+                    public void afterExecution(SqlExecution execution) {
+                        neverCaptured.add(execution);
+                    }
+
+                    @Override
+                    public long thresholdNanos() {
+                        return Long.MAX_VALUE;
+                    }
+                }
+        ));
+
+        // When
+        try (Connection connection = sut.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select id from article where id = ?")) {
+            statement.setLong(1, 1L);
+            statement.executeQuery().close();
+        }
+
+        // Then
+        assertThat(captured).singleElement()
+                .hasFieldOrPropertyWithValue("sql", "select id from article where id = ?")
+                .hasFieldOrPropertyWithValue("bindTypes", List.of("Long"));
+        assertThat(neverCaptured).isEmpty();
+    }
+
+    @DisplayName("데이터 소스를 닫으면, 감싼 커넥션 풀도 닫힌다.")
+    @Test
+    void givenPooledDataSource_whenClosing_thenClosesPool() throws Exception {
+        // Given
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:sql-statistics-close");
+        SqlStatisticsDataSource sut = new SqlStatisticsDataSource(pool);
+
+        // When
+        sut.close();
+
+        // Then
+        assertThat(pool.isClosed()).isTrue();
+    }
+
+
+    @TestConfiguration
+    static class TestSqlStatisticsConfig {
+        @Bean
+        static SqlStatisticsDataSourcePostProcessor sqlStatisticsDataSourcePostProcessor(ObjectProvider<SqlExecutionListener> sqlExecutionListeners) {
+            return new SqlStatisticsDataSourcePostProcessor(sqlExecutionListeners);
+        }
+    }
+
+}
@@ -3,8 +3,14 @@ package com.fastcampus.projectboard.repository;
 import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.domain.QArticle;
 import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.dto.ArticleFeedDto;
+import com.fastcampus.projectboard.dto.ArticleSearchCondition;
+import jakarta.persistence.EntityManager;
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +20,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -26,16 +33,19 @@ class JpaRepositoryTest {
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashTagRepository hashtagRepository;
+    private final EntityManager entityManager;
     JpaRepositoryTest(
             @Autowired ArticleRepository articleRepository,
             @Autowired ArticleCommentRepository articleCommentRepository,
             @Autowired UserAccountRepository userAccountRepository,
-            @Autowired HashTagRepository hashtagRepository
+            @Autowired HashTagRepository hashtagRepository,
+            @Autowired EntityManager entityManager
     ) {
         this.articleRepository = articleRepository;
         this.articleCommentRepository = articleCommentRepository;
         this.userAccountRepository = userAccountRepository;
         this.hashtagRepository = hashtagRepository;
+        this.entityManager = entityManager;
     }
     @DisplayName("select 테스트")
     @Test
@@ -92,6 +102,98 @@ class JpaRepositoryTest {
         assertThat(articleCommentRepository.count()).isEqualTo(previousArticleCommentCount - deletedCommentsSize);
     }
 
+    @DisplayName("게시글 일괄 삭제 테스트 - 삭제 표시된 게시글도 대대댓글까지 댓글, 해시태그 연결과 함께 지운다")
+    @Test
+    void givenSoftDeletedArticleWithNestedComments_whenBulkDeleting_thenDeletesArticleWithEveryComment() {
+        // Given
+        ArticleComment childComment = articleCommentRepository.findByArticle_Id(49L).stream() // classpath:resources/data.sql 참조
+                .filter(articleComment -> articleComment.getParentCommentId() != null)
+                .findFirst()
+                .orElseThrow();
+        childComment.addChildComment(ArticleComment.of(childComment.getArticle(), childComment.getUserAccount(), "대대댓글"));
+        articleCommentRepository.flush();
+        articleRepository.softDeleteByIdAndUserId(49L, "uno", LocalDateTime.now());
+        entityManager.clear();
+
+        // When
+        long deleted = articleRepository.deleteAllWithCommentsByIdIn(List.of(49L, 1L));
+
+        // Then
+        assertThat(deleted).isEqualTo(2L);
+        assertThat(entityManager.createNativeQuery("select count(*) from article where id in (1, 49)").getSingleResult()).isEqualTo(0L);
+        assertThat(entityManager.createNativeQuery("select count(*) from article_comment where article_id in (1, 49)").getSingleResult()).isEqualTo(0L);
+        assertThat(entityManager.createNativeQuery("select count(*) from article_hashtag where article_id in (1, 49)").getSingleResult()).isEqualTo(0L);
+    }
+
+    @DisplayName("게시글 삭제 표시 테스트 - 조회에서 빠지지만 행은 남는다")
+    @Test
+    void givenArticleIdAndAuthorId_whenSoftDeleting_thenHidesArticleButKeepsRow() {
+        // Given
+        long previousArticleCount = articleRepository.count();
+
+        // When
+        int deleted = articleRepository.softDeleteByIdAndUserId(1L, "uno2", LocalDateTime.now());
+        entityManager.clear();
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(articleRepository.count()).isEqualTo(previousArticleCount - 1);
+        assertThat(articleRepository.findById(1L)).isEmpty();
+        assertThat(articleRepository.findByTitleContaining("", Pageable.unpaged()).getContent())
+                .extracting("id")
+                .doesNotContain(1L);
+        assertThat(entityManager.createNativeQuery("select count(*) from article where id = 1").getSingleResult())
+                .isEqualTo(1L);
+    }
+
+    @DisplayName("게시글 삭제 표시 테스트 - 작성자가 아니면 표시하지 않는다")
+    @Test
+    void givenArticleIdAndOtherUserId_whenSoftDeleting_thenDoesNothing() {
+        // Given
+
+        // When
+        int deleted = articleRepository.softDeleteByIdAndUserId(1L, "uno", LocalDateTime.now());
+        entityManager.clear();
+
+        // Then
+        assertThat(deleted).isZero();
+        assertThat(articleRepository.findById(1L)).isPresent();
+    }
+
+    @DisplayName("댓글 삭제 표시 테스트 - 대댓글도 함께 조회에서 빠진다")
+    @Test
+    void givenArticleCommentHavingChildComments_whenSoftDeleting_thenHidesEveryComment() {
+        // Given
+        long previousArticleCommentCount = articleCommentRepository.count();
+        LocalDateTime now = LocalDateTime.now();
+
+        // When
+        articleCommentRepository.softDeleteByIdAndUserId(1L, "uno", now);
+        articleCommentRepository.softDeleteByIdIn(articleCommentRepository.findIdsByParentCommentIdIn(List.of(1L)), now);
+        entityManager.clear();
+
+        // Then
+        assertThat(articleCommentRepository.count()).isEqualTo(previousArticleCommentCount - 5); // 테스트 댓글 + 대댓글 4개
+        assertThat(articleCommentRepository.findById(1L)).isEmpty();
+    }
+
+    @DisplayName("게시글의 댓글 삭제 표시 테스트 - 대댓글까지 모두 조회에서 빠진다")
+    @Test
+    void givenArticleId_whenSoftDeletingArticleComments_thenHidesEveryComment() {
+        // Given
+        long previousArticleCommentCount = articleCommentRepository.count();
+        int articleCommentSize = articleCommentRepository.findByArticle_Id(49L).size(); // classpath:resources/data.sql 참조
+
+        // When
+        int deleted = articleCommentRepository.softDeleteByArticleId(49L, LocalDateTime.now());
+        entityManager.clear();
+
+        // Then
+        assertThat(deleted).isEqualTo(articleCommentSize);
+        assertThat(articleCommentRepository.findByArticle_Id(49L)).isEmpty();
+        assertThat(articleCommentRepository.count()).isEqualTo(previousArticleCommentCount - articleCommentSize);
+    }
+
     @DisplayName("대댓글 조회 테스트")
     @Test
     void givenParentCommentId_whenSelecting_thenReturnsChildComments() {
@@ -143,27 +245,28 @@ class JpaRepositoryTest {
         assertThat(articleCommentRepository.count()).isEqualTo(previousArticleCommentCount - 5); // 테스트 댓글 + 대댓글 4개
     }
 
-    @DisplayName("댓글 삭제와 대댓글 전체 연동 삭제 테스트 - 댓글 ID + 유저 ID")
+    @DisplayName("[Querydsl] 전체 hashtag 리스트에서 이름만 조회하기")
     @Test
-    void givenArticleCommentIdHavingChildCommentsAndUserId_whenDeletingParentComment_thenDeletesEveryComment() {
+    void givenNothing_whenQueryingHashtags_thenReturnsHashtagNames() {
         // Given
-        long previousArticleCommentCount = articleCommentRepository.count();
-
         // When
-        articleCommentRepository.deleteByIdAndUserAccount_UserId(1L, "uno");
-
+        List<String> hashtagNames = hashtagRepository.findAllHashtagNames();
         // Then
-        assertThat(articleCommentRepository.count()).isEqualTo(previousArticleCommentCount - 5); // 테스트 댓글 + 대댓글 4개
+        assertThat(hashtagNames).hasSize(19);
     }
-
-    @DisplayName("[Querydsl] 전체 hashtag 리스트에서 이름만 조회하기")
+    @DisplayName("[Querydsl] 삭제 표시된 게시글에만 달린 hashtag는 이름 조회에서 빠진다")
     @Test
-    void givenNothing_whenQueryingHashtags_thenReturnsHashtagNames() {
+    void givenHashtagOnlyOnSoftDeletedArticle_whenQueryingHashtags_thenExcludesHashtagName() {
         // Given
+        articleRepository.softDeleteByIdAndUserId(45L, "uno", LocalDateTime.now()); // 'white' 는 45번 게시글에만 달려 있다
+        entityManager.clear();
         // When
         List<String> hashtagNames = hashtagRepository.findAllHashtagNames();
         // Then
-        assertThat(hashtagNames).hasSize(19);
+        assertThat(hashtagNames)
+                .hasSize(18)
+                .doesNotContain("white")
+                .contains("crimson");
     }
     @DisplayName("[Querydsl] hashtag로 페이징된 게시글 검색하기")
     @Test
@@ -185,6 +288,73 @@ class JpaRepositoryTest {
         assertThat(articlePage.getTotalElements()).isEqualTo(17);
         assertThat(articlePage.getTotalPages()).isEqualTo(4);
     }
+    @DisplayName("[Querydsl] 게시글 ID 커서로 피드 조회하기")
+    @Test
+    void givenCursor_whenQueryingFeed_thenReturnsArticlesBeforeCursorInDescendingOrder() {
+        // Given
+        Long cursor = 100L;
+        // When
+        List<ArticleFeedDto> feed = articleRepository.findFeed(cursor, null, 10);
+        // Then
+        assertThat(feed)
+                .hasSize(10)
+                .extracting(ArticleFeedDto::id)
+                .containsExactly(99L, 98L, 97L, 96L, 95L, 94L, 93L, 92L, 91L, 90L);
+    }
+    @DisplayName("[Querydsl] 검색 조건 - 미리 찾은 유저 ID 로 걸러도, 작성자 부분 일치와 같은 게시글을 찾는다")
+    @Test
+    void givenAuthorCondition_whenQueryingByCondition_thenUserIdsAndPartialMatchFindSameArticles() {
+        // Given
+        ArticleSearchCondition byPartialMatch = ArticleSearchCondition.from("author:uno2");
+        ArticleSearchCondition byUserIds = byPartialMatch.withAuthorUserIds(Set.of("uno2"));
+        Pageable pageable = PageRequest.of(0, 200, Sort.by("id"));
+        // When
+        Page<Article> partialMatchPage = articleRepository.findByCondition(byPartialMatch, pageable);
+        Page<Article> userIdsPage = articleRepository.findByCondition(byUserIds, pageable);
+        // Then
+        assertThat(partialMatchPage.getContent())
+                .isNotEmpty()
+                .allSatisfy(article -> assertThat(article.getUserAccount().getUserId()).isEqualTo("uno2"));
+        assertThat(userIdsPage.getContent()).containsExactlyElementsOf(partialMatchPage.getContent());
+        assertThat(userIdsPage.getTotalElements()).isEqualTo(partialMatchPage.getTotalElements());
+    }
+    @DisplayName("[Querydsl] 검색 조건 - 미리 찾은 유저 ID 가 없으면, 아무 게시글도 찾지 않는다")
+    @Test
+    void givenEmptyAuthorUserIds_whenQueryingByCondition_thenReturnsEmptyPage() {
+        // Given
+        ArticleSearchCondition condition = ArticleSearchCondition.from("author:nobody").withAuthorUserIds(Set.of());
+        // When
+        Page<Article> articlePage = articleRepository.findByCondition(condition, PageRequest.of(0, 20));
+        // Then
+        assertThat(articlePage.getContent()).isEmpty();
+        assertThat(articlePage.getTotalElements()).isZero();
+    }
+    @DisplayName("소문자 검색 컬럼 테스트 - 저장하면 채워지고, 대소문자 구분 없이 앞부분 일치로 찾는다")
+    @Test
+    void givenSavedArticle_whenFindingByNormalizedTitlePrefix_thenFindsArticleIgnoringCase() {
+        // Given
+        UserAccount userAccount = userAccountRepository.getReferenceById("uno");
+        Article article = articleRepository.saveAndFlush(Article.of(userAccount, "Spring Boot Guide", "content"));
+        // When
+        Iterable<Article> articles = articleRepository.findAll(QArticle.article.titleNormalized.startsWith("spring boot"));
+        // Then
+        assertThat(articles).contains(article);
+    }
+    @DisplayName("2차 캐시 테스트 - 영속성 컨텍스트를 비워도 회원 정보는 캐시에서 읽는다")
+    @Test
+    void givenLoadedUserAccount_whenLoadingAgainInNewPersistenceContext_thenHitsSecondLevelCache() {
+        // Given
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        userAccountRepository.findById("uno").orElseThrow();
+        entityManager.clear();
+        statistics.clear();
+        // When
+        Optional<UserAccount> userAccount = userAccountRepository.findById("uno");
+        // Then
+        assertThat(userAccount).isPresent();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
     @EnableJpaAuditing
     @TestConfiguration
     static class TestJpaConfig {
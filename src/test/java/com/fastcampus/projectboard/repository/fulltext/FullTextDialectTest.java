@@ -0,0 +1,80 @@
+package com.fastcampus.projectboard.repository.fulltext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방언이 만든 검색 조건을 실제로 실행해서, LIKE 검색과 같은 부분 일치 결과가 나오는지 확인한다.
+ * PostgreSQL 방언은 H2 의 PostgreSQL 호환 모드에서 검색 조건만 실행한다. 트라이그램 인덱스와 관련도 정렬은 실제 PostgreSQL 에서만 확인할 수 있다.
+ */
+@DisplayName("전문 검색 방언")
+class FullTextDialectTest {
+
+    private SingleConnectionDataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @DisplayName("H2 방언은, 단어 중간의 검색어로도 게시글을 찾는다.")
+    @Test
+    void givenH2Dialect_whenSearchingPartOfWord_thenFindsArticles() {
+        // Given
+        H2FullTextDialect dialect = new H2FullTextDialect();
+        NamedParameterJdbcTemplate jdbcTemplate = createArticles("jdbc:h2:mem:h2-full-text-" + System.nanoTime());
+
+        // When
+        List<Long> titleIds = search(jdbcTemplate, dialect, FullTextField.TITLE, "부트");
+        List<Long> contentIds = search(jdbcTemplate, dialect, FullTextField.CONTENT, "ANNOT");
+
+        // Then
+        assertThat(titleIds).containsExactly(1L);
+        assertThat(contentIds).containsExactly(2L);
+    }
+
+    @DisplayName("PostgreSQL 방언은, 단어 중간의 검색어로도 대소문자 구분 없이 게시글을 찾는다.")
+    @Test
+    void givenPostgreSqlDialect_whenSearchingPartOfWord_thenFindsArticles() {
+        // Given
+        PostgreSqlFullTextDialect dialect = new PostgreSqlFullTextDialect();
+        NamedParameterJdbcTemplate jdbcTemplate = createArticles("jdbc:h2:mem:pg-full-text-" + System.nanoTime() + ";MODE=PostgreSQL");
+
+        // When
+        List<Long> titleIds = search(jdbcTemplate, dialect, FullTextField.TITLE, "부트");
+        List<Long> contentIds = search(jdbcTemplate, dialect, FullTextField.CONTENT, "ANNOT");
+
+        // Then
+        assertThat(titleIds).containsExactly(1L);
+        assertThat(contentIds).containsExactly(2L);
+    }
+
+
+    private NamedParameterJdbcTemplate createArticles(String url) {
+        dataSource = new SingleConnectionDataSource(url, "sa", "", true);
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate.getJdbcTemplate().execute("create table article (id bigint primary key, title varchar(255), content varchar(10000), deleted_at timestamp)");
+        jdbcTemplate.getJdbcTemplate().update("insert into article (id, title, content) values (1, '스프링부트 시작하기', 'Hello world')");
+        jdbcTemplate.getJdbcTemplate().update("insert into article (id, title, content) values (2, '스프링 입문', 'Use @Annotation wisely')");
+        jdbcTemplate.getJdbcTemplate().update("insert into article (id, title, content) values (3, '부 트', 'an not')");
+
+        return jdbcTemplate;
+    }
+
+    private static List<Long> search(NamedParameterJdbcTemplate jdbcTemplate, FullTextDialect dialect, FullTextField field, String keyword) {
+        return jdbcTemplate.queryForList(
+                "select id from article where deleted_at is null and " + dialect.matchCondition(field) + " order by id",
+                Map.of("query", dialect.toQuery(keyword), "like", "%" + keyword + "%"),
+                Long.class
+        );
+    }
+
+}
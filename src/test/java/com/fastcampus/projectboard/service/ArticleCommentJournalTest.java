@@ -0,0 +1,103 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.service.ArticleCommentJournal.Entry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("댓글 쓰기 지연 로그")
+class ArticleCommentJournalTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir private Path directory;
+
+    @DisplayName("기록만 하고 저장하지 않은 댓글은, 다시 열었을 때 순서대로 복구된다.")
+    @Test
+    void givenUncommittedEntries_whenReopening_thenRecoversEntriesInOrder() throws Exception {
+        // Given
+        List<Entry> appended = new ArrayList<>();
+        try (ArticleCommentJournal journal = new ArticleCommentJournal(directory, objectMapper, true)) {
+            journal.append(1L, "uno", null, "첫 댓글", LocalDateTime.now(), appended::add);
+            journal.append(1L, "uno", 1L, "대댓글", LocalDateTime.now(), appended::add);
+            journal.append(2L, "uno", null, "다른 게시글 댓글", LocalDateTime.now(), appended::add);
+            journal.commit(1L);
+        }
+
+        // When
+        List<Entry> actual;
+        try (ArticleCommentJournal journal = new ArticleCommentJournal(directory, objectMapper, true)) {
+            actual = journal.recover();
+        }
+
+        // Then
+        assertThat(appended).extracting(Entry::sequence).containsExactly(1L, 2L, 3L);
+        assertThat(actual)
+                .extracting(Entry::sequence, Entry::content)
+                .containsExactly(
+                        tuple(2L, "대댓글"),
+                        tuple(3L, "다른 게시글 댓글")
+                );
+    }
+
+    @DisplayName("모든 댓글이 저장되면, 로그를 비우고 순번은 이어서 매긴다.")
+    @Test
+    void givenAllEntriesCommitted_whenAppendingAgain_thenTruncatesLogAndContinuesSequence() throws Exception {
+        // Given
+        List<Entry> appended = new ArrayList<>();
+        try (ArticleCommentJournal journal = new ArticleCommentJournal(directory, objectMapper, false)) {
+            journal.append(1L, "uno", null, "댓글", LocalDateTime.now(), appended::add);
+            journal.commit(1L);
+        }
+
+        // When
+        try (ArticleCommentJournal journal = new ArticleCommentJournal(directory, objectMapper, false)) {
+            assertThat(journal.recover()).isEmpty();
+            journal.append(1L, "uno", null, "새 댓글", LocalDateTime.now(), appended::add);
+        }
+
+        // Then
+        assertThat(appended).extracting(Entry::sequence).containsExactly(1L, 2L);
+        assertThat(Files.readAllLines(directory.resolve("article-comments.log"))).hasSize(1);
+    }
+
+    @DisplayName("댓글이 계속 들어와 로그가 비지 않아도, 크기를 넘으면 저장된 댓글을 걸러 내 로그를 줄인다.")
+    @Test
+    void givenLogOverCompactThreshold_whenCommitting_thenKeepsOnlyUncommittedEntries() throws Exception {
+        // Given
+        List<Entry> appended = new ArrayList<>();
+        try (ArticleCommentJournal journal = new ArticleCommentJournal(directory, objectMapper, false, 1L)) {
+            journal.append(1L, "uno", null, "첫 댓글", LocalDateTime.now(), appended::add);
+            journal.append(1L, "uno", null, "두번째 댓글", LocalDateTime.now(), appended::add);
+            journal.append(1L, "uno", null, "세번째 댓글", LocalDateTime.now(), appended::add);
+
+            // When
+            journal.commit(2L);
+            journal.append(1L, "uno", null, "네번째 댓글", LocalDateTime.now(), appended::add);
+        }
+
+        // Then
+        List<Entry> actual;
+        try (ArticleCommentJournal journal = new ArticleCommentJournal(directory, objectMapper, false)) {
+            actual = journal.recover();
+        }
+        assertThat(Files.readAllLines(directory.resolve("article-comments.log"))).hasSize(2);
+        assertThat(actual)
+                .extracting(Entry::sequence, Entry::content)
+                .containsExactly(
+                        tuple(3L, "세번째 댓글"),
+                        tuple(4L, "네번째 댓글")
+                );
+    }
+
+}
@@ -4,6 +4,9 @@ import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.Hashtag;
 import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.constant.ChangeLogType;
+import com.fastcampus.projectboard.domain.event.CommentAdded;
+import com.fastcampus.projectboard.domain.event.CommentDeleted;
 import com.fastcampus.projectboard.dto.ArticleCommentDto;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.repository.ArticleCommentRepository;
@@ -20,6 +23,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,6 +40,9 @@ class ArticleCommentServiceTest {
     @Mock private ArticleRepository articleRepository;
     @Mock private ArticleCommentRepository articleCommentRepository;
     @Mock private UserAccountRepository userAccountRepository;
+    @Mock private ArticleCommentWriteBehindService articleCommentWriteBehindService;
+    @Mock private ChangeLogService changeLogService;
+    @Mock private DomainEventService domainEventService;
 
     @DisplayName("게시글 ID로 조회하면, 해당하는 댓글 리스트를 반환한다.")
     @Test
@@ -81,6 +88,26 @@ class ArticleCommentServiceTest {
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(articleCommentRepository).should(never()).getReferenceById(anyLong());
         then(articleCommentRepository).should().save(any(ArticleComment.class));
+        then(changeLogService).should().record(eq(ChangeLogType.ARTICLE_COMMENT), any(), eq(dto.articleId()), eq(Set.of()));
+        then(domainEventService).should().publish(new CommentAdded(dto.articleId(), null));
+    }
+
+    @DisplayName("쓰기 지연 저장이 켜져 있으면, 댓글을 바로 저장하지 않고 저장 큐에 넣는다.")
+    @Test
+    void givenWriteBehindEnabled_whenSavingArticleComment_thenEnqueuesArticleComment() {
+        // Given
+        ArticleCommentDto dto = createArticleCommentDto("댓글");
+        given(articleCommentWriteBehindService.isEnabled()).willReturn(true);
+        willDoNothing().given(articleCommentWriteBehindService).enqueue(dto);
+
+        // When
+        sut.saveArticleComment(dto);
+
+        // Then
+        then(articleCommentWriteBehindService).should().enqueue(dto);
+        then(articleRepository).shouldHaveNoInteractions();
+        then(articleCommentRepository).shouldHaveNoInteractions();
+        then(domainEventService).shouldHaveNoInteractions();
     }
 
     @DisplayName("댓글 저장을 시도했는데 맞는 게시글이 없으면, 경고 로그를 찍고 아무것도 안 한다.")
@@ -121,19 +148,46 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should(never()).save(any(ArticleComment.class));
     }
 
-    @DisplayName("댓글 ID를 입력하면, 댓글을 삭제한다.")
+    @DisplayName("댓글 ID를 입력하면, 댓글과 그 아래 모든 대댓글을 삭제한다.")
     @Test
-    void givenArticleCommentId_whenDeletingArticleComment_thenDeletesArticleComment() {
+    void givenArticleCommentId_whenDeletingArticleComment_thenDeletesArticleCommentWithEveryReply() {
         // Given
         Long articleCommentId = 1L;
         String userId = "uno";
-        willDoNothing().given(articleCommentRepository).deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        given(articleCommentRepository.findArticleIdById(articleCommentId)).willReturn(Optional.of(2L));
+        given(articleCommentRepository.softDeleteByIdAndUserId(eq(articleCommentId), eq(userId), any(LocalDateTime.class))).willReturn(1);
+        given(articleCommentRepository.findIdsByParentCommentIdIn(List.of(1L))).willReturn(List.of(2L, 3L));
+        given(articleCommentRepository.findIdsByParentCommentIdIn(List.of(2L, 3L))).willReturn(List.of(4L));
+        given(articleCommentRepository.findIdsByParentCommentIdIn(List.of(4L))).willReturn(List.of());
+
+        // When
+        sut.deleteArticleComment(articleCommentId, userId);
+
+        // Then
+        then(articleCommentRepository).should().softDeleteByIdAndUserId(eq(articleCommentId), eq(userId), any(LocalDateTime.class));
+        then(articleCommentRepository).should().softDeleteByIdIn(eq(List.of(2L, 3L)), any(LocalDateTime.class));
+        then(articleCommentRepository).should().softDeleteByIdIn(eq(List.of(4L)), any(LocalDateTime.class));
+        then(changeLogService).should().record(ChangeLogType.ARTICLE_COMMENT, articleCommentId, 2L, Set.of());
+        then(domainEventService).should().publish(new CommentDeleted(articleCommentId, userId));
+    }
+
+    @DisplayName("댓글 작성자가 아닌 사람이 삭제를 요청하면, 아무 것도 하지 않는다.")
+    @Test
+    void givenArticleCommentIdWithDifferentUser_whenDeletingArticleComment_thenDoesNothing() {
+        // Given
+        Long articleCommentId = 1L;
+        String userId = "John";
+        given(articleCommentRepository.findArticleIdById(articleCommentId)).willReturn(Optional.of(2L));
+        given(articleCommentRepository.softDeleteByIdAndUserId(eq(articleCommentId), eq(userId), any(LocalDateTime.class))).willReturn(0);
 
         // When
         sut.deleteArticleComment(articleCommentId, userId);
 
         // Then
-        then(articleCommentRepository).should().deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        then(articleCommentRepository).should(never()).findIdsByParentCommentIdIn(any());
+        then(articleCommentRepository).should(never()).softDeleteByIdIn(any(), any());
+        then(changeLogService).shouldHaveNoInteractions();
+        then(domainEventService).shouldHaveNoInteractions();
     }
 
 
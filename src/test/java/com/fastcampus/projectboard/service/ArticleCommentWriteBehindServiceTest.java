@@ -0,0 +1,129 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.CommentIngestionConfig.CommentIngestionProperties;
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.repository.ArticleCommentRepository;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 댓글 쓰기 지연")
+@ExtendWith(MockitoExtension.class)
+class ArticleCommentWriteBehindServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private ArticleCommentWriteBehindService sut;
+
+    @TempDir private Path directory;
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private ArticleFragmentService articleFragmentService;
+    @Mock private TrendingService trendingService;
+    @Mock private ChangeLogService changeLogService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        sut = new ArticleCommentWriteBehindService(
+                new CommentIngestionProperties(
+                        true, 10, 10, Duration.ofMillis(50), Duration.ofMillis(50),
+                        directory.toString(), false, DataSize.ofMegabytes(1)
+                ),
+                articleRepository,
+                articleCommentRepository,
+                userAccountRepository,
+                jdbcTemplate,
+                transactionTemplate,
+                objectMapper,
+                articleFragmentService,
+                trendingService,
+                changeLogService,
+                new SimpleMeterRegistry()
+        );
+        sut.openJournal();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        sut.stop();
+    }
+
+    @DisplayName("저장할 수 있는 댓글이면, 로그에 남기고 저장 큐에 넣는다.")
+    @Test
+    void givenValidComment_whenEnqueuing_thenQueuesComment() {
+        // Given
+        ArticleCommentDto dto = ArticleCommentDto.of(1L, createUserAccountDto(), 2L, "대댓글");
+        given(articleRepository.existsById(1L)).willReturn(true);
+        given(userAccountRepository.existsById("uno")).willReturn(true);
+        given(articleCommentRepository.existsByIdAndArticle_Id(2L, 1L)).willReturn(true);
+
+        // When
+        sut.enqueue(dto);
+
+        // Then
+        assertThat(sut.getPendingCount()).isEqualTo(1);
+    }
+
+    @DisplayName("부모 댓글이 다른 게시글의 댓글이면, 접수하지 않고 400 으로 거절한다.")
+    @Test
+    void givenParentCommentOfOtherArticle_whenEnqueuing_thenRejects() {
+        // Given
+        ArticleCommentDto dto = ArticleCommentDto.of(1L, createUserAccountDto(), 2L, "대댓글");
+        given(articleRepository.existsById(1L)).willReturn(true);
+        given(userAccountRepository.existsById("uno")).willReturn(true);
+        given(articleCommentRepository.existsByIdAndArticle_Id(2L, 1L)).willReturn(false);
+
+        // When
+        ResponseStatusException e = catchThrowableOfType(() -> sut.enqueue(dto), ResponseStatusException.class);
+
+        // Then
+        assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(sut.getPendingCount()).isZero();
+    }
+
+    @DisplayName("댓글 내용이 너무 길면, DB 를 보지 않고 400 으로 거절한다.")
+    @Test
+    void givenTooLongContent_whenEnqueuing_thenRejects() {
+        // Given
+        ArticleCommentDto dto = ArticleCommentDto.of(1L, createUserAccountDto(), "a".repeat(501));
+
+        // When
+        ResponseStatusException e = catchThrowableOfType(() -> sut.enqueue(dto), ResponseStatusException.class);
+
+        // Then
+        assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(sut.getPendingCount()).isZero();
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+
+    private UserAccountDto createUserAccountDto() {
+        return UserAccountDto.of("uno", "password", "uno@mail.com", "Uno", "This is memo");
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.dto.ArticleFragmentsDto;
+import com.fastcampus.projectboard.dto.response.ArticleCommentResponse;
+import com.fastcampus.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 게시글 화면 조각")
+class ArticleFragmentServiceTest {
+
+    private final Cache<Long, ArticleFragmentsDto> articleFragmentCache = Caffeine.newBuilder().maximumSize(10).build();
+    private final ArticleFragmentService sut = new ArticleFragmentService(createTemplateEngine(), articleFragmentCache);
+    private final CsrfToken csrfToken = new DefaultCsrfToken("X-CSRF-TOKEN", "_csrf", "csrf-token-value");
+
+    @DisplayName("게시글을 렌더링하면, 본문과 댓글 조각을 만들고 버전별로 캐시한다.")
+    @Test
+    void givenArticle_whenGettingFragments_thenRendersAndCachesFragments() {
+        // Given
+        ArticleWithCommentsResponse article = createArticle();
+
+        // When
+        ArticleFragmentsDto fragments = sut.getFragments("1-100-2", article, "uno", csrfToken);
+
+        // Then
+        assertThat(fragments.bodyHtml())
+                .contains("본문 내용")
+                .contains("#java");
+        assertThat(fragments.commentsHtml())
+                .contains("부모 댓글")
+                .contains("자식 댓글")
+                .contains("<input type=\"hidden\" name=\"_csrf\" value=\"csrf-token-value\">");
+        assertThat(articleFragmentCache.getIfPresent(article.id()))
+                .hasFieldOrPropertyWithValue("versionTag", "1-100-2");
+    }
+
+    @DisplayName("캐시된 댓글 조각을 꺼내면, 로그인 사용자 본인의 댓글에만 삭제 폼을 넣는다.")
+    @Test
+    void givenCachedFragments_whenGettingFragmentsForUser_thenRendersOnlyOwnDeleteForms() {
+        // Given
+        ArticleWithCommentsResponse article = createArticle();
+        sut.getFragments("1-100-2", article, "uno", csrfToken);
+
+        // When
+        ArticleFragmentsDto fragments = sut.getFragments("1-100-2", article, "uno2", csrfToken);
+
+        // Then
+        assertThat(fragments.commentsHtml())
+                .contains("action=\"/comments/2/delete\"")
+                .doesNotContain("action=\"/comments/1/delete\"")
+                .doesNotContain("owner-controls")
+                .doesNotContain("csrf-input");
+    }
+
+    @DisplayName("로그인하지 않은 사용자에게는, 댓글 삭제 폼을 하나도 내려주지 않는다.")
+    @Test
+    void givenAnonymousUser_whenGettingFragments_thenRendersNoDeleteForms() {
+        // Given
+        ArticleWithCommentsResponse article = createArticle();
+
+        // When
+        ArticleFragmentsDto fragments = sut.getFragments("1-100-2", article, null, csrfToken);
+
+        // Then
+        assertThat(fragments.commentsHtml())
+                .doesNotContain("comment-delete-form")
+                .doesNotContain("owner-controls");
+    }
+
+    @DisplayName("댓글 내용에 자리표시자와 같은 글자가 있어도, CSRF 토큰으로 바꾸지 않는다.")
+    @Test
+    void givenCommentContainingPlaceholderText_whenGettingFragments_thenKeepsCommentText() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Set<ArticleCommentResponse> comments = new LinkedHashSet<>();
+        comments.add(ArticleCommentResponse.of(1L, "<!--csrf-input--> __CSRF_TOKEN__", now, "uno2@mail.com", "Uno2", "uno2"));
+        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.of(
+                1L, "title", "본문 내용", Set.of(), now, "uno@mail.com", "Uno", "uno", comments
+        );
+
+        // When
+        ArticleFragmentsDto fragments = sut.getFragments("1-100-1", article, "uno", csrfToken);
+
+        // Then
+        assertThat(fragments.commentsHtml())
+                .contains("&lt;!--csrf-input--&gt; __CSRF_TOKEN__")
+                .containsOnlyOnce("csrf-token-value");
+    }
+
+    @DisplayName("게시글 버전이 바뀌면, 캐시를 버리고 새로 렌더링한다.")
+    @Test
+    void givenChangedVersion_whenGettingFragments_thenRendersAgain() {
+        // Given
+        sut.getFragments("1-100-2", createArticle(), "uno", csrfToken);
+        ArticleWithCommentsResponse updatedArticle = ArticleWithCommentsResponse.of(
+                1L, "title", "바뀐 본문", Set.of(), LocalDateTime.now(), "uno@mail.com", "Uno", "uno", new LinkedHashSet<>()
+        );
+
+        // When
+        ArticleFragmentsDto fragments = sut.getFragments("1-200-0", updatedArticle, "uno", csrfToken);
+
+        // Then
+        assertThat(fragments.bodyHtml()).contains("바뀐 본문");
+        assertThat(articleFragmentCache.getIfPresent(1L))
+                .hasFieldOrPropertyWithValue("versionTag", "1-200-0");
+    }
+
+    @DisplayName("게시글 조각을 비우면, 캐시에서 제거된다.")
+    @Test
+    void givenCachedFragments_whenEvicting_thenRemovesFromCache() {
+        // Given
+        sut.getFragments("1-100-2", createArticle(), "uno", csrfToken);
+
+        // When
+        sut.evict(1L);
+
+        // Then
+        assertThat(articleFragmentCache.getIfPresent(1L)).isNull();
+    }
+
+
+    private ArticleWithCommentsResponse createArticle() {
+        LocalDateTime now = LocalDateTime.now();
+        ArticleCommentResponse parent = ArticleCommentResponse.of(1L, "부모 댓글", now, "uno@mail.com", "Uno", "uno");
+        parent.childComments().add(ArticleCommentResponse.of(2L, "자식 댓글", now, "uno2@mail.com", "Uno2", "uno2", 1L));
+        Set<ArticleCommentResponse> comments = new LinkedHashSet<>();
+        comments.add(parent);
+
+        return ArticleWithCommentsResponse.of(
+                1L, "title", "본문 내용", Set.of("java"), now, "uno@mail.com", "Uno", "uno", comments
+        );
+    }
+
+    private SpringTemplateEngine createTemplateEngine() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setUseDecoupledLogic(true);
+
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        return templateEngine;
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.CoalescingConfig.CoalescingProperties;
+import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시글 조회 합치기")
+@ExtendWith(MockitoExtension.class)
+class ArticleLoadCoalescingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @Mock private ArticleService articleService;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("먼저 시작된 게시글 조회에 합류한 요청 수를, 지표로 센다.")
+    @Test
+    void givenConcurrentArticleLoads_whenCoalescing_thenCountsCoalescedRequests() throws Exception {
+        // Given
+        ArticleLoadCoalescingService sut = new ArticleLoadCoalescingService(
+                articleService,
+                new CoalescingProperties(true, Duration.ofSeconds(5)),
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class)
+        );
+        ArticleWithCommentsDto article = mock(ArticleWithCommentsDto.class);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(articleService.getArticleWithComments(1L)).willAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return article;
+        });
+        Future<ArticleWithCommentsDto> leader = executor.submit(() -> sut.getArticleWithComments(1L, "v1"));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        Future<ArticleWithCommentsDto> follower = executor.submit(() -> sut.getArticleWithComments(1L, "v1"));
+        waitUntil(() -> coalescedCount("article") == 1);
+        release.countDown();
+
+        // Then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(article);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(article);
+        assertThat(coalescedCount("search")).isZero();
+        then(articleService).should(times(1)).getArticleWithComments(1L);
+    }
+
+
+    private double coalescedCount(String load) {
+        return meterRegistry.get(ArticleLoadCoalescingService.COALESCED_METRIC)
+                .tag("load", load)
+                .functionCounter()
+                .count();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.SearchCacheConfig.SearchCacheProperties;
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.fastcampus.projectboard.service.ArticleSearchCacheService.SearchKey;
+import com.fastcampus.projectboard.service.ArticleSearchCacheService.SearchResult;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("비즈니스 로직 - 검색 결과 캐시")
+class ArticleSearchCacheServiceTest {
+
+    private final Cache<SearchKey, SearchResult> articleSearchCache = Caffeine.newBuilder().maximumSize(10).build();
+    private final ArticleRepository articleRepository = mock(ArticleRepository.class);
+    private final ArticleSearchCacheService sut = new ArticleSearchCacheService(
+            new SearchCacheProperties(true, 10, Duration.ofSeconds(10), Duration.ofMinutes(10)),
+            articleRepository,
+            articleSearchCache
+    );
+
+    @DisplayName("캐시된 검색 결과를 꺼내면, 게시글을 ID 로 다시 조회해서 검색 순서대로 반환하고 삭제된 게시글은 뺀다.")
+    @Test
+    void givenCachedSearchResult_whenFinding_thenReloadsArticlesInSearchOrder() {
+        // Given
+        Pageable pageable = Pageable.ofSize(3);
+        SearchKey key = SearchKey.of(SearchType.TITLE, "  spring   boot ", pageable);
+        sut.put(key, new PageImpl<>(List.of(createArticle(3L), createArticle(2L), createArticle(1L)), pageable, 10), sut.generation());
+        given(articleRepository.findAllById(List.of(3L, 2L, 1L))).willReturn(List.of(createArticle(1L), createArticle(3L)));
+
+        // When
+        Optional<Page<ArticleDto>> actual = sut.find(SearchKey.of(SearchType.TITLE, "spring boot", pageable), pageable);
+
+        // Then
+        assertThat(actual).hasValueSatisfying(page -> {
+            assertThat(page.getContent()).extracting(ArticleDto::id).containsExactly(3L, 1L);
+            assertThat(page.getTotalElements()).isEqualTo(10);
+        });
+    }
+
+    @DisplayName("해시태그 검색 결과를 지우면, 그 해시태그가 들어간 검색 결과만 지운다.")
+    @Test
+    void givenCachedSearchResults_whenEvictingHashtag_thenEvictsOnlySearchesWithHashtag() {
+        // Given
+        Pageable pageable = Pageable.ofSize(20);
+        SearchKey javaKey = SearchKey.ofHashtags(List.of("spring", "java"), pageable);
+        SearchKey springKey = SearchKey.ofHashtags(List.of("spring"), pageable);
+        SearchKey titleKey = SearchKey.of(SearchType.TITLE, "java", pageable);
+        List.of(javaKey, springKey, titleKey).forEach(key -> sut.put(key, Page.empty(pageable), sut.generation()));
+
+        // When
+        sut.evictHashtags(Set.of("Java"));
+
+        // Then
+        assertThat(articleSearchCache.asMap()).containsOnlyKeys(springKey, titleKey);
+    }
+
+    @DisplayName("검색하는 동안 해시태그 검색 결과가 지워졌으면, 그 검색 결과는 캐시하지 않는다.")
+    @Test
+    void givenEvictionDuringSearch_whenPutting_thenDoesNotCacheHashtagSearch() {
+        // Given
+        Pageable pageable = Pageable.ofSize(20);
+        SearchKey key = SearchKey.ofHashtags(List.of("java"), pageable);
+        long generation = sut.generation();
+        sut.evictHashtags(Set.of("kotlin"));
+
+        // When
+        sut.put(key, Page.empty(pageable), generation);
+
+        // Then
+        assertThat(articleSearchCache.getIfPresent(key)).isNull();
+    }
+
+
+    private Article createArticle(Long id) {
+        Article article = Article.of(
+                UserAccount.of("uno", "password", "uno@email.com", "Uno", null),
+                "title",
+                "content"
+        );
+        ReflectionTestUtils.setField(article, "id", id);
+
+        return article;
+    }
+
+}
@@ -2,14 +2,25 @@ package com.fastcampus.projectboard.service;
 import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.Hashtag;
 import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.constant.ChangeLogType;
 import com.fastcampus.projectboard.domain.constant.SearchType;
+import com.fastcampus.projectboard.domain.event.ArticleCreated;
+import com.fastcampus.projectboard.domain.event.ArticleDeleted;
+import com.fastcampus.projectboard.domain.event.ArticleUpdated;
+import com.fastcampus.projectboard.domain.event.HashtagsChanged;
 import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleSearchCondition;
+import com.fastcampus.projectboard.dto.ArticleVersionDto;
 import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
 import com.fastcampus.projectboard.dto.HashtagDto;
 import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.repository.ArticleCommentRepository;
 import com.fastcampus.projectboard.repository.ArticleRepository;
 import com.fastcampus.projectboard.repository.HashTagRepository;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.repository.fulltext.ArticleFullTextSearch;
+import com.fastcampus.projectboard.repository.fulltext.FullTextField;
+import com.fastcampus.projectboard.service.ArticleSearchCacheService.SearchKey;
 import jakarta.persistence.EntityNotFoundException;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +33,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
@@ -36,9 +48,15 @@ import static org.mockito.BDDMockito.*;
 class ArticleServiceTest {
     @InjectMocks private ArticleService sut;
     @Mock private HashtagService hashtagService;
+    @Mock private ArticleSearchCacheService articleSearchCacheService;
+    @Mock private ChangeLogService changeLogService;
+    @Mock private DomainEventService domainEventService;
     @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
     @Mock private UserAccountRepository userAccountRepository;
     @Mock private HashTagRepository hashtagRepository;
+    @Mock private ArticleFullTextSearch articleFullTextSearch;
+    @Mock private AuthorIndexService authorIndexService;
     @DisplayName("검색어 없이 게시글을 검색하면, 게시글 페이지를 반환한다.")
     @Test
     void givenNoSearchParameters_whenSearchingArticles_thenReturnsArticlePage() {
@@ -65,6 +83,101 @@ class ArticleServiceTest {
         assertThat(articles).isEmpty();
         then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
     }
+    @DisplayName("같은 검색 결과가 캐시되어 있으면, 검색 쿼리를 다시 실행하지 않고 캐시된 결과를 반환한다.")
+    @Test
+    void givenCachedSearchResult_whenSearchingArticles_thenReturnsCachedResult() {
+        // Given
+        String searchKeyword = "java  spring";
+        Pageable pageable = Pageable.ofSize(20);
+        SearchKey key = SearchKey.ofHashtags(List.of("spring", "java"), pageable);
+        Page<ArticleDto> cached = new PageImpl<>(List.of(createArticleDto()), pageable, 1);
+        given(articleSearchCacheService.find(key, pageable)).willReturn(Optional.of(cached));
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.HASHTAG, searchKeyword, pageable);
+        // Then
+        assertThat(articles).isSameAs(cached);
+        then(articleRepository).shouldHaveNoInteractions();
+        then(articleSearchCacheService).should(never()).put(any(), any(), anyLong());
+    }
+    @DisplayName("해시태그 검색어에 공백이 여러 개 있어도, 빈 해시태그 없이 검색한다.")
+    @Test
+    void givenHashtagKeywordWithRepeatedSpaces_whenSearchingArticles_thenSearchesWithoutBlankHashtag() {
+        // Given
+        String searchKeyword = " java  spring ";
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleSearchCacheService.find(any(), eq(pageable))).willReturn(Optional.empty());
+        given(articleRepository.findByHashtagNames(List.of("java", "spring"), pageable)).willReturn(Page.empty(pageable));
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.HASHTAG, searchKeyword, pageable);
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findByHashtagNames(List.of("java", "spring"), pageable);
+        then(articleSearchCacheService).should().put(eq(SearchKey.ofHashtags(List.of("java", "spring"), pageable)), any(), anyLong());
+    }
+    @DisplayName("작성자 색인이 준비되어 있으면, 닉네임 검색은 색인에서 찾은 유저 ID 목록으로 게시글을 조회한다.")
+    @Test
+    void givenAuthorIndexReady_whenSearchingArticlesByNickname_thenSearchesArticlesByUserIds() {
+        // Given
+        String searchKeyword = "Un";
+        Pageable pageable = Pageable.ofSize(20);
+        given(authorIndexService.findUserIdsByNickname(searchKeyword)).willReturn(Optional.of(Set.of("uno")));
+        given(articleRepository.findByUserAccount_UserIdIn(Set.of("uno"), pageable)).willReturn(Page.empty());
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.NICKNAME, searchKeyword, pageable);
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findByUserAccount_UserIdIn(Set.of("uno"), pageable);
+        then(articleRepository).should(never()).findByUserAccount_NicknameContaining(any(), any());
+    }
+    @DisplayName("검색식으로 검색하면, 작성자를 색인에서 유저 ID 로 바꿔서 하나의 조건으로 게시글을 조회한다.")
+    @Test
+    void givenSearchQuery_whenSearchingArticles_thenSearchesArticlesByCondition() {
+        // Given
+        String searchKeyword = "#java author:Un after:2024-01-01";
+        Pageable pageable = Pageable.ofSize(20);
+        given(authorIndexService.findUserIdsByUserId("Un")).willReturn(Optional.of(Set.of()));
+        given(authorIndexService.findUserIdsByNickname("Un")).willReturn(Optional.of(Set.of("uno")));
+        given(articleRepository.findByCondition(any(ArticleSearchCondition.class), eq(pageable))).willReturn(Page.empty());
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.QUERY, searchKeyword, pageable);
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findByCondition(
+                argThat(condition -> condition.hashtagNames().equals(List.of("java"))
+                        && Set.of("uno").equals(condition.authorUserIds())
+                        && LocalDate.of(2024, 1, 1).equals(condition.after())),
+                eq(pageable)
+        );
+    }
+    @DisplayName("검색식의 작성자에 맞는 회원이 색인에 없으면, 게시글을 조회하지 않고 빈 페이지를 반환한다.")
+    @Test
+    void givenSearchQueryWithUnknownAuthor_whenSearchingArticles_thenReturnsEmptyPageWithoutQuerying() {
+        // Given
+        String searchKeyword = "spring author:nobody";
+        Pageable pageable = Pageable.ofSize(20);
+        given(authorIndexService.findUserIdsByUserId("nobody")).willReturn(Optional.of(Set.of()));
+        given(authorIndexService.findUserIdsByNickname("nobody")).willReturn(Optional.of(Set.of()));
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.QUERY, searchKeyword, pageable);
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should(never()).findByCondition(any(), any());
+    }
+    @DisplayName("전문 검색을 쓸 수 있으면, 본문 검색은 LIKE 대신 전문 검색 결과를 반환한다.")
+    @Test
+    void givenFullTextSearchAvailable_whenSearchingArticlesByContent_thenReturnsFullTextSearchResult() {
+        // Given
+        String searchKeyword = "content";
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleFullTextSearch.search(FullTextField.CONTENT, searchKeyword, pageable))
+                .willReturn(Optional.of(new PageImpl<>(List.of(createArticle()), pageable, 1)));
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.CONTENT, searchKeyword, pageable);
+        // Then
+        assertThat(articles).hasSize(1);
+        then(articleFullTextSearch).should().search(FullTextField.CONTENT, searchKeyword, pageable);
+        then(articleRepository).should(never()).findByContentContaining(any(), any());
+    }
     @DisplayName("검색어 없이 게시글을 해시태그 검색하면, 빈 페이지를 반환한다.")
     @Test
     void givenNoSearchParameters_whenSearchingArticlesViaHashtag_thenReturnsEmptyPage() {
@@ -170,6 +283,23 @@ class ArticleServiceTest {
                 .hasMessage("게시글이 없습니다 - articleId: " + articleId);
         then(articleRepository).should().findById(articleId);
     }
+    @DisplayName("게시글 ID로 버전을 조회하면, 게시글 버전 정보를 반환한다.")
+    @Test
+    void givenArticleId_whenSearchingArticleVersion_thenReturnsArticleVersion() {
+        // Given
+        Long articleId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2022, 1, 1, 0, 0);
+        LocalDateTime latestCommentModifiedAt = modifiedAt.plusDays(1);
+        given(articleRepository.findVersionById(articleId)).willReturn(Optional.of(ArticleVersionDto.of(articleId, modifiedAt, latestCommentModifiedAt, 2L)));
+        // When
+        Optional<ArticleVersionDto> version = sut.getArticleVersion(articleId);
+        // Then
+        assertThat(version).get()
+                .hasFieldOrPropertyWithValue("commentCount", 2L)
+                .extracting(ArticleVersionDto::lastModifiedAt)
+                .isEqualTo(latestCommentModifiedAt);
+        then(articleRepository).should().findVersionById(articleId);
+    }
     @DisplayName("게시글 정보를 입력하면, 본문에서 해시태그 정보를 추출하여 해시태그 정보가 포함된 게시글을 생성한다.")
     @Test
     void givenArticleInfo_whenSavingArticle_thenExtractsHashtagsFromContentAndSavesArticleWithExtractedHashtags() {
@@ -189,6 +319,9 @@ class ArticleServiceTest {
         then(hashtagService).should().parseHashtagNames(dto.content());
         then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
         then(articleRepository).should().save(any(Article.class));
+        then(changeLogService).should().record(eq(ChangeLogType.ARTICLE), any(), any(), eq(expectedHashtagNames));
+        then(domainEventService).should().publish(any(ArticleCreated.class));
+        then(domainEventService).should().publish(any(HashtagsChanged.class));
     }
     @DisplayName("게시글의 수정 정보를 입력하면, 게시글을 수정한다.")
     @Test
@@ -220,6 +353,8 @@ class ArticleServiceTest {
         then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
         then(hashtagService).should().parseHashtagNames(dto.content());
         then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
+        then(domainEventService).should().publish(new ArticleUpdated(dto.id(), expectedHashtagNames));
+        then(domainEventService).should().publish(new HashtagsChanged(dto.id(), Set.of("java", "spring", "springboot"), Set.of("springboot")));
     }
     @DisplayName("없는 게시글의 수정 정보를 입력하면, 경고 로그를 찍고 아무 것도 하지 않는다.")
     @Test
@@ -252,23 +387,42 @@ class ArticleServiceTest {
         then(hashtagService).shouldHaveNoInteractions();
     }
 
-    @DisplayName("게시글의 ID를 입력하면, 게시글을 삭제한다.")
+    @DisplayName("게시글의 ID를 입력하면, 게시글과 그 댓글을 삭제한다.")
     @Test
     void givenArticleId_whenDeletingArticle_thenDeletesArticle() {
         // Given
         Long articleId = 1L;
         String userId = "uno";
-        given(articleRepository.getReferenceById(articleId)).willReturn(createArticle());
-        willDoNothing().given(articleRepository).deleteByIdAndUserAccount_UserId(articleId, userId);
-        willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
+        given(hashtagRepository.findByArticles_Id(articleId)).willReturn(List.of(createHashtag(1L, "java"), createHashtag(2L, "spring")));
+        given(articleRepository.softDeleteByIdAndUserId(eq(articleId), eq(userId), any(LocalDateTime.class))).willReturn(1);
         // When
         sut.deleteArticle(1L, userId);
         // Then
-        then(articleRepository).should().getReferenceById(articleId);
-        then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
-        then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(hashtagRepository).should().findByArticles_Id(articleId);
+        then(articleRepository).should().softDeleteByIdAndUserId(eq(articleId), eq(userId), any(LocalDateTime.class));
+        then(articleCommentRepository).should().softDeleteByArticleId(eq(articleId), any(LocalDateTime.class));
+        then(articleRepository).should(never()).getReferenceById(any());
+        then(hashtagService).shouldHaveNoInteractions();
+        then(domainEventService).should().publish(new ArticleDeleted(articleId, Set.of("java", "spring")));
+        then(domainEventService).should().publish(new HashtagsChanged(articleId, Set.of("java", "spring"), Set.of()));
+    }
+
+    @DisplayName("게시글 작성자가 아닌 사람이 삭제를 요청하면, 아무 것도 하지 않는다.")
+    @Test
+    void givenArticleIdWithDifferentUser_whenDeletingArticle_thenDoesNothing() {
+        // Given
+        Long articleId = 1L;
+        String userId = "John";
+        given(hashtagRepository.findByArticles_Id(articleId)).willReturn(List.of(createHashtag(1L, "java")));
+        given(articleRepository.softDeleteByIdAndUserId(eq(articleId), eq(userId), any(LocalDateTime.class))).willReturn(0);
+        // When
+        sut.deleteArticle(articleId, userId);
+        // Then
+        then(articleRepository).should().softDeleteByIdAndUserId(eq(articleId), eq(userId), any(LocalDateTime.class));
+        then(articleCommentRepository).shouldHaveNoInteractions();
+        then(hashtagService).shouldHaveNoInteractions();
+        then(changeLogService).shouldHaveNoInteractions();
+        then(domainEventService).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글 수를 조회하면, 게시글 수를 반환한다.")
@@ -0,0 +1,162 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.event.ArticleDeleted;
+import com.fastcampus.projectboard.dto.ArticleViewCountDto;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 조회수")
+@ExtendWith(MockitoExtension.class)
+class ArticleViewCountServiceTest {
+
+    @InjectMocks private ArticleViewCountService sut;
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("조회수를 올리면, DB 에 쓰지 않고 메모리에 누적한다.")
+    @Test
+    void givenArticleId_whenIncreasingViewCount_thenAccumulatesInMemory() {
+        // Given
+        Long articleId = 1L;
+
+        // When
+        sut.increaseViewCount(articleId);
+        sut.increaseViewCount(articleId);
+
+        // Then
+        assertThat(sut.getViewCount(articleId)).isEqualTo(2L);
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("트랜잭션 안에서 조회수를 올리면, 커밋된 조회만 센다.")
+    @Test
+    void givenTransactions_whenIncreasingViewCount_thenCountsOnlyCommittedViews() {
+        // Given
+        Long articleId = 1L;
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.increaseViewCount(articleId);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.increaseViewCount(articleId);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(sut.getViewCount(articleId)).isEqualTo(1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("누적한 조회수를 반영하면, 게시글마다 한 번씩 배치 UPDATE 로 더한다.")
+    @Test
+    void givenAccumulatedViewCounts_whenFlushing_thenUpdatesInOneBatch() {
+        // Given
+        sut.increaseViewCount(1L);
+        sut.increaseViewCount(1L);
+        sut.increaseViewCount(2L);
+        ArgumentCaptor<List<Object[]>> batchArgs = ArgumentCaptor.forClass(List.class);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[]{1, 1});
+
+        // When
+        sut.flush();
+        sut.flush();
+
+        // Then
+        then(jdbcTemplate).should().batchUpdate(anyString(), batchArgs.capture());
+        assertThat(batchArgs.getValue())
+                .extracting(args -> args[1] + ":" + args[0])
+                .containsExactlyInAnyOrder("1:2", "2:1");
+        assertThat(sut.getViewCount(1L)).isEqualTo(2L);
+    }
+
+    @DisplayName("조회수 반영에 실패하면, 누적한 조회수를 잃지 않고 다음에 다시 반영한다.")
+    @Test
+    void givenDatabaseFailure_whenFlushing_thenKeepsViewCountsForNextFlush() {
+        // Given
+        sut.increaseViewCount(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willThrow(new DataAccessResourceFailureException("down"));
+
+        // When
+        sut.flush();
+
+        // Then
+        assertThat(sut.getViewCount(1L)).isEqualTo(1L);
+    }
+
+    @DisplayName("게시글 삭제 이벤트를 받으면, 그 게시글의 조회수를 집계에서 뺀다.")
+    @Test
+    void givenArticleDeletedEvent_whenHandling_thenRemovesViewCount() {
+        // Given
+        sut.increaseViewCount(1L);
+        sut.increaseViewCount(2L);
+
+        // When
+        sut.onArticleDeleted(new ArticleDeleted(1L, Set.of()));
+
+        // Then
+        assertThat(sut.getViewCount(1L)).isZero();
+        assertThat(sut.getViewCount(2L)).isEqualTo(1L);
+    }
+
+    @DisplayName("많이 본 게시글 중 DB 에서 찾을 수 없는 게시글은, 목록에서 빼고 집계에서도 뺀다.")
+    @Test
+    void givenViewCountOfMissingArticle_whenGettingMostViewedArticles_thenRemovesMissingArticle() {
+        // Given
+        sut.increaseViewCount(1L);
+        sut.increaseViewCount(2L);
+        sut.increaseViewCount(2L);
+        given(articleRepository.findAllById(Set.of(1L, 2L))).willReturn(List.of(createArticle(1L)));
+
+        // When
+        List<ArticleViewCountDto> result = sut.getMostViewedArticles(10);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).viewCount()).isEqualTo(1L);
+        assertThat(sut.getViewCount(2L)).isZero();
+    }
+
+
+    private Article createArticle(Long id) {
+        Article article = Article.of(
+                UserAccount.of("uno", "password", "uno@email.com", "Uno", null),
+                "title",
+                "content"
+        );
+        ReflectionTestUtils.setField(article, "id", id);
+
+        return article;
+    }
+
+}
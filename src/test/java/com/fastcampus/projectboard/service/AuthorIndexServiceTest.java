@@ -0,0 +1,63 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.AuthorIndexConfig.AuthorIndexProperties;
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.dto.ChangeLogDto;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비즈니스 로직 - 작성자 색인")
+@ExtendWith(MockitoExtension.class)
+class AuthorIndexServiceTest {
+
+    @Mock private UserAccountRepository userAccountRepository;
+
+    @DisplayName("색인을 다시 만드는 도중에 가입한 회원은, 새 색인에도 들어간다.")
+    @Test
+    void givenUserIndexedDuringReload_whenReloadFinishes_thenNewIndexContainsUser() {
+        // Given
+        AuthorIndexService sut = new AuthorIndexService(userAccountRepository, new AuthorIndexProperties(true, 100, Duration.ofMinutes(1)));
+        given(userAccountRepository.findAll()).willAnswer(invocation -> {
+            // 회원 목록을 읽은 뒤, 새 색인으로 바꾸기 전에 가입한 회원
+            sut.index("newUno", "새회원");
+            return List.of(UserAccount.of("uno", "pw", null, "Uno", null));
+        });
+
+        // When
+        sut.reload();
+
+        // Then
+        assertThat(sut.findUserIdsByUserId("uno")).hasValue(Set.of("uno", "newUno"));
+        assertThat(sut.findUserIdsByNickname("새회원")).hasValue(Set.of("newUno"));
+    }
+
+    @DisplayName("다른 서버에서 가입한 회원의 변경 기록을 받으면, 다시 읽기 전에도 그 회원을 검색할 수 있다.")
+    @Test
+    void givenRemoteSignUpChange_whenHandlingChange_thenIndexContainsUser() {
+        // Given
+        AuthorIndexService sut = new AuthorIndexService(userAccountRepository, new AuthorIndexProperties(true, 100, Duration.ofMinutes(1)));
+        given(userAccountRepository.findAll()).willReturn(List.of(UserAccount.of("uno", "pw", null, "Uno", null)));
+        given(userAccountRepository.findById("remoteUno")).willReturn(Optional.of(UserAccount.of("remoteUno", "pw", null, "원격회원", null)));
+        sut.reload();
+
+        // When
+        sut.onChange(ChangeLogDto.ofUserAccount(1L, "remoteUno"));
+
+        // Then
+        assertThat(sut.findUserIdsByUserId("uno")).hasValue(Set.of("uno", "remoteUno"));
+        assertThat(sut.findUserIdsByNickname("원격회원")).hasValue(Set.of("remoteUno"));
+    }
+
+}
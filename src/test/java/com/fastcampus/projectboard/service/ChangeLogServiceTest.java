@@ -0,0 +1,130 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.ChangeLogConfig.ChangeLogProperties;
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.ChangeLog;
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.constant.ChangeLogType;
+import com.fastcampus.projectboard.dto.ChangeLogDto;
+import com.fastcampus.projectboard.repository.ChangeLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 변경 기록")
+@ExtendWith(MockitoExtension.class)
+class ChangeLogServiceTest {
+
+    private ChangeLogService sut;
+
+    @Mock private ChangeLogRepository changeLogRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private EntityManagerFactory entityManagerFactory;
+    @Mock private SessionFactory sessionFactory;
+    @Mock private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ChangeLogService(
+                new ChangeLogProperties(true, Duration.ofSeconds(1), 100, Duration.ofMinutes(1), Duration.ofDays(1)),
+                changeLogRepository,
+                eventPublisher,
+                entityManagerFactory,
+                new SimpleMeterRegistry()
+        );
+        sut.registerMetrics();
+    }
+
+    @DisplayName("처음 읽으면, 지금까지의 기록은 건너뛰고 그 뒤에 생긴 다른 서버의 변경만 이벤트로 발행한다.")
+    @Test
+    void givenChangesAfterStartup_whenPolling_thenPublishesOnlyRemoteChanges() {
+        // Given
+        given(changeLogRepository.findFirstByOrderByIdDesc()).willReturn(Optional.of(createChangeLog(10L, "other-node")));
+        given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class))).willReturn(List.of(
+                createChangeLog(11L, "other-node"),
+                createChangeLog(12L, sut.getNodeId())
+        ));
+        given(entityManagerFactory.unwrap(SessionFactory.class)).willReturn(sessionFactory);
+        given(sessionFactory.getCache()).willReturn(cache);
+
+        // When
+        sut.poll();
+        sut.poll();
+
+        // Then
+        then(eventPublisher).should().publishEvent(ChangeLogDto.of(11L, ChangeLogType.ARTICLE, 1L, 1L, Set.of("java")));
+        then(eventPublisher).shouldHaveNoMoreInteractions();
+        then(cache).should().evictCollectionData(Article.class.getName() + ".hashtags", 1L);
+        then(cache).should().evictQueryRegions();
+    }
+
+    @DisplayName("건너뛴 ID 의 기록이 늦게 커밋되면, 다음에 읽을 때 놓치지 않고 발행한다.")
+    @Test
+    void givenLateCommittedChange_whenPolling_thenPublishesSkippedChange() {
+        // Given
+        given(changeLogRepository.findFirstByOrderByIdDesc()).willReturn(Optional.empty());
+        given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .willReturn(List.of(createChangeLog(2L, "other-node")))
+                .willReturn(List.of());
+        given(changeLogRepository.findByIdIn(List.of(1L))).willReturn(List.of(createChangeLog(1L, "other-node")));
+        given(entityManagerFactory.unwrap(SessionFactory.class)).willReturn(sessionFactory);
+        given(sessionFactory.getCache()).willReturn(cache);
+
+        // When
+        sut.poll();
+        sut.poll();
+        sut.poll();
+
+        // Then
+        then(eventPublisher).should().publishEvent(ChangeLogDto.of(2L, ChangeLogType.ARTICLE, 1L, 1L, Set.of("java")));
+        then(eventPublisher).should().publishEvent(ChangeLogDto.of(1L, ChangeLogType.ARTICLE, 1L, 1L, Set.of("java")));
+        then(changeLogRepository).should().findByIdIn(List.of(1L));
+    }
+
+    @DisplayName("다른 서버의 회원 변경 기록을 읽으면, 그 회원의 2차 캐시를 비우고 이벤트로 발행한다.")
+    @Test
+    void givenRemoteUserAccountChange_whenPolling_thenEvictsUserAccountAndPublishesChange() {
+        // Given
+        ChangeLog userAccountChange = ChangeLog.ofUserAccount("remoteUno", "other-node");
+        ReflectionTestUtils.setField(userAccountChange, "id", 11L);
+        given(changeLogRepository.findFirstByOrderByIdDesc()).willReturn(Optional.of(createChangeLog(10L, "other-node")));
+        given(changeLogRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class))).willReturn(List.of(userAccountChange));
+        given(entityManagerFactory.unwrap(SessionFactory.class)).willReturn(sessionFactory);
+        given(sessionFactory.getCache()).willReturn(cache);
+
+        // When
+        sut.poll();
+        sut.poll();
+
+        // Then
+        then(cache).should().evictEntityData(UserAccount.class, "remoteUno");
+        then(eventPublisher).should().publishEvent(ChangeLogDto.ofUserAccount(11L, "remoteUno"));
+    }
+
+
+    private ChangeLog createChangeLog(Long id, String origin) {
+        ChangeLog changeLog = ChangeLog.of(ChangeLogType.ARTICLE, 1L, 1L, Set.of("java"), origin);
+        ReflectionTestUtils.setField(changeLog, "id", id);
+
+        return changeLog;
+    }
+
+}
@@ -0,0 +1,210 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.OutboxConfig.OutboxProperties;
+import com.fastcampus.projectboard.domain.OutboxEvent;
+import com.fastcampus.projectboard.domain.event.ArticleCreated;
+import com.fastcampus.projectboard.domain.event.CommentAdded;
+import com.fastcampus.projectboard.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 도메인 이벤트")
+@ExtendWith(MockitoExtension.class)
+class DomainEventServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private DomainEventService sut;
+
+    @Mock private OutboxEventRepository outboxEventRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sut.destroy();
+    }
+
+    @DisplayName("이벤트를 발행하면, 아웃박스에 남기고 별도 스레드에서 전달한 뒤 전달을 마쳤다고 표시한다.")
+    @Test
+    void givenDomainEvent_whenPublishing_thenSavesToOutboxAndDispatches() {
+        // Given
+        sut = createService(true);
+        ArticleCreated event = new ArticleCreated(1L, Set.of("java"));
+        given(outboxEventRepository.save(any(OutboxEvent.class))).willAnswer(invocation -> {
+            OutboxEvent outboxEvent = invocation.getArgument(0);
+            ReflectionTestUtils.setField(outboxEvent, "id", 10L);
+            return outboxEvent;
+        });
+
+        // When
+        sut.publish(event);
+
+        // Then
+        then(outboxEventRepository).should().save(any(OutboxEvent.class));
+        then(eventPublisher).should(timeout(1000)).publishEvent(event);
+        then(outboxEventRepository).should(timeout(1000)).markPublished(eq(10L), any(LocalDateTime.class));
+    }
+
+    @DisplayName("이벤트를 전달하는 동안, 리스너는 그 이벤트의 아웃박스 ID 를 볼 수 있다.")
+    @Test
+    void givenDomainEvent_whenDispatching_thenExposesOutboxEventIdToListeners() {
+        // Given
+        sut = createService(true);
+        ArticleCreated event = new ArticleCreated(1L, Set.of("java"));
+        given(outboxEventRepository.save(any(OutboxEvent.class))).willAnswer(invocation -> {
+            OutboxEvent outboxEvent = invocation.getArgument(0);
+            ReflectionTestUtils.setField(outboxEvent, "id", 10L);
+            return outboxEvent;
+        });
+        AtomicReference<Long> seenEventId = new AtomicReference<>();
+        willAnswer(invocation -> {
+            seenEventId.set(DomainEventContext.currentEventId());
+            return null;
+        }).given(eventPublisher).publishEvent(event);
+
+        // When
+        sut.publish(event);
+
+        // Then
+        then(outboxEventRepository).should(timeout(1000)).markPublished(eq(10L), any(LocalDateTime.class));
+        assertThat(seenEventId.get()).isEqualTo(10L);
+    }
+
+    @DisplayName("아웃박스를 끄면, 아웃박스에 남기지 않고 바로 전달한다.")
+    @Test
+    void givenOutboxDisabled_whenPublishing_thenDispatchesWithoutOutbox() {
+        // Given
+        sut = createService(false);
+        ArticleCreated event = new ArticleCreated(1L, Set.of("java"));
+
+        // When
+        sut.publish(event);
+
+        // Then
+        then(eventPublisher).should().publishEvent(event);
+        then(outboxEventRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("리스너가 실패하면, 전달 실패로 표시해서 나중에 다시 보내게 한다.")
+    @Test
+    void givenFailingListener_whenPublishing_thenMarksFailed() {
+        // Given
+        sut = createService(true);
+        ArticleCreated event = new ArticleCreated(1L, Set.of("java"));
+        given(outboxEventRepository.save(any(OutboxEvent.class))).willAnswer(invocation -> {
+            OutboxEvent outboxEvent = invocation.getArgument(0);
+            ReflectionTestUtils.setField(outboxEvent, "id", 10L);
+            return outboxEvent;
+        });
+        willThrow(new IllegalStateException("리스너 실패")).given(eventPublisher).publishEvent(any(Object.class));
+
+        // When
+        sut.publish(event);
+
+        // Then
+        then(outboxEventRepository).should(timeout(1000)).markFailed(eq(10L), any(LocalDateTime.class));
+        then(outboxEventRepository).should(never()).markPublished(any(), any());
+    }
+
+    @DisplayName("전달되지 않은 이벤트가 있으면, 먼저 가져간 이벤트만 다시 보낸다.")
+    @Test
+    void givenPendingEvents_whenRelaying_thenDispatchesOnlyClaimedEvents() throws Exception {
+        // Given
+        sut = createService(true);
+        CommentAdded claimedEvent = new CommentAdded(1L, 5L);
+        CommentAdded takenEvent = new CommentAdded(2L, 6L);
+        given(outboxEventRepository.findByOriginAndPublishedAtIsNullAndAttemptsLessThanAndLockedUntilBeforeOrderByIdAsc(anyString(), eq(5), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(createOutboxEvent(1L, claimedEvent), createOutboxEvent(2L, takenEvent)));
+        given(outboxEventRepository.claim(eq(1L), anyString(), any(), any())).willReturn(1);
+        given(outboxEventRepository.claim(eq(2L), anyString(), any(), any())).willReturn(0);
+
+        // When
+        sut.relay();
+
+        // Then
+        then(eventPublisher).should(timeout(1000)).publishEvent(claimedEvent);
+        then(outboxEventRepository).should(timeout(1000)).markPublished(eq(1L), any(LocalDateTime.class));
+        then(eventPublisher).should(never()).publishEvent(takenEvent);
+    }
+
+    @DisplayName("재전송할 이벤트는, 이 서버가 만든 이벤트 중에서만 찾는다.")
+    @Test
+    void givenPublishedEvent_whenRelaying_thenLooksUpOnlyEventsOfThisNode() {
+        // Given
+        sut = createService(true);
+        ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+        given(outboxEventRepository.save(saved.capture())).willAnswer(invocation -> invocation.getArgument(0));
+        sut.publish(new ArticleCreated(1L, Set.of("java")));
+        String origin = saved.getValue().getOrigin();
+
+        // When
+        sut.relay();
+
+        // Then
+        then(outboxEventRepository).should().findByOriginAndPublishedAtIsNullAndAttemptsLessThanAndLockedUntilBeforeOrderByIdAsc(
+                eq(origin), eq(5), any(LocalDateTime.class), any(Pageable.class)
+        );
+    }
+
+    @DisplayName("정리할 때, 보관 기간이 지난 전달된 이벤트와 끝내 전달하지 못한 이벤트를 함께 지운다.")
+    @Test
+    void givenOutbox_whenPurging_thenDeletesPublishedAndDeadLetterEvents() {
+        // Given
+        sut = createService(true);
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        sut.purge();
+
+        // Then
+        then(outboxEventRepository).should().deleteByPublishedAtBefore(argThat(time -> time.isBefore(before.minusHours(23))));
+        then(outboxEventRepository).should().deleteUnpublishedByCreatedAtBefore(argThat(time -> time.isBefore(before.minusDays(6))));
+    }
+
+
+    private DomainEventService createService(boolean enabled) {
+        DomainEventService service = new DomainEventService(
+                new OutboxProperties(
+                        enabled, 1, 10, Duration.ofSeconds(30), Duration.ofSeconds(5), 100,
+                        Duration.ofSeconds(1), 5, Duration.ofDays(1), Duration.ofDays(7)
+                ),
+                outboxEventRepository,
+                eventPublisher,
+                objectMapper
+        );
+        service.startExecutor();
+
+        return service;
+    }
+
+    private OutboxEvent createOutboxEvent(Long id, Object event) throws Exception {
+        OutboxEvent outboxEvent = OutboxEvent.of(
+                event.getClass().getSimpleName(),
+                objectMapper.writeValueAsString(event),
+                "node",
+                LocalDateTime.now().minusMinutes(1)
+        );
+        ReflectionTestUtils.setField(outboxEvent, "id", id);
+
+        return outboxEvent;
+    }
+
+}
@@ -28,6 +28,7 @@ class HashtagServiceTest {
     @InjectMocks private HashtagService sut;
 
     @Mock private HashTagRepository hashtagRepository;
+    @Mock private ChangeLogService changeLogService;
 
     @DisplayName("본문을 파싱하면, 해시태그 이름들을 중복 없이 반환한다.")
     @MethodSource
@@ -0,0 +1,172 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.PurgeConfig.PurgeProperties;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 삭제 표시된 글 정리 (DB)")
+@DataJpaTest
+class SoftDeletePurgeServiceDataJpaTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 3, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleRepository articleRepository;
+    private final DataSource dataSource;
+    private final HashtagService hashtagService = mock(HashtagService.class);
+    private final ArticleViewCountService articleViewCountService = mock(ArticleViewCountService.class);
+    private SoftDeletePurgeService sut;
+
+    SoftDeletePurgeServiceDataJpaTest(
+            @Autowired DataSource dataSource,
+            @Autowired PlatformTransactionManager transactionManager,
+            @Autowired ArticleRepository articleRepository
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.articleRepository = articleRepository;
+        this.dataSource = dataSource;
+    }
+
+    @BeforeEach
+    void setUp() {
+        sut = new SoftDeletePurgeService(
+                new PurgeProperties(true, Duration.ofSeconds(2), 100, Duration.ofDays(1), LocalTime.of(2, 0), LocalTime.of(6, 0), 100),
+                namedParameterJdbcTemplate,
+                transactionTemplate,
+                articleRepository,
+                hashtagService,
+                articleViewCountService,
+                dataSource,
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC)
+        );
+    }
+
+    @DisplayName("대댓글이 달린 게시글이 삭제 표시되어 있으면, 대댓글부터 댓글, 해시태그 연결, 게시글까지 실제로 지운다.")
+    @Test
+    void givenDeletedArticleWithChildComments_whenPurging_thenDeletesArticleWithEveryComment() {
+        // Given
+        long articleId = 49L; // classpath:resources/data.sql 참조
+        long previousArticleCommentCount = count("select count(*) from article_comment");
+        long articleCommentCount = count("select count(*) from article_comment where article_id = " + articleId);
+        assertThat(count("select count(*) from article_comment where article_id = " + articleId + " and parent_comment_id is not null")).isPositive();
+        jdbcTemplate.update("update article set deleted_at = ? where id = ?", NOW.minusDays(2), articleId);
+        jdbcTemplate.update("update article_comment set deleted_at = ? where article_id = ?", NOW.minusDays(2), articleId);
+
+        // When
+        sut.purge();
+
+        // Then
+        assertThat(count("select count(*) from article where id = " + articleId)).isZero();
+        assertThat(count("select count(*) from article_comment where article_id = " + articleId)).isZero();
+        assertThat(count("select count(*) from article_hashtag where article_id = " + articleId)).isZero();
+        assertThat(count("select count(*) from article_comment")).isEqualTo(previousArticleCommentCount - articleCommentCount);
+        then(hashtagService).should(atLeastOnce()).deleteHashtagWithoutArticles(anyLong());
+    }
+
+    @DisplayName("대댓글이 달린 댓글이 삭제 표시되어 있으면, 대댓글부터 실제로 지운다.")
+    @Test
+    void givenDeletedArticleCommentWithChildComments_whenPurging_thenDeletesCommentWithChildComments() {
+        // Given
+        long previousArticleCommentCount = count("select count(*) from article_comment");
+        jdbcTemplate.update("update article_comment set deleted_at = ? where id = 1 or parent_comment_id = 1", NOW.minusDays(2));
+
+        // When
+        sut.purge();
+
+        // Then
+        assertThat(count("select count(*) from article_comment where id = 1 or parent_comment_id = 1")).isZero();
+        assertThat(count("select count(*) from article_comment")).isEqualTo(previousArticleCommentCount - 5); // 테스트 댓글 + 대댓글 4개
+    }
+
+    @DisplayName("삭제 표시된 댓글 아래로 대댓글이 여러 단계 달려 있으면, 가장 아래 대댓글부터 차례로 모두 지운다.")
+    @Test
+    void givenDeletedArticleCommentChainOfThreeLevels_whenPurging_thenDeletesEveryLevel() {
+        // Given
+        long childCommentId = count("select min(id) from article_comment where parent_comment_id = 1");
+        long grandChildCommentId = insertReply(childCommentId);
+        long greatGrandChildCommentId = insertReply(grandChildCommentId);
+        long previousArticleCommentCount = count("select count(*) from article_comment");
+        jdbcTemplate.update(
+                "update article_comment set deleted_at = ? where id in (1, ?, ?) or parent_comment_id = 1",
+                NOW.minusDays(2), grandChildCommentId, greatGrandChildCommentId
+        );
+
+        // When
+        sut.purge();
+
+        // Then
+        assertThat(count("select count(*) from article_comment where id in (1, " + grandChildCommentId + ", " + greatGrandChildCommentId + ") or parent_comment_id = 1")).isZero();
+        assertThat(count("select count(*) from article_comment")).isEqualTo(previousArticleCommentCount - 7); // 테스트 댓글 + 대댓글 4개 + 추가한 2단계
+    }
+
+    @DisplayName("삭제 표시되지 않은 대댓글이 달려 있으면, 그 대댓글과 부모 댓글은 남기고 나머지만 지운다.")
+    @Test
+    void givenDeletedArticleCommentWithLiveReply_whenPurging_thenKeepsLiveReplyAndItsParent() {
+        // Given
+        long previousArticleCommentCount = count("select count(*) from article_comment");
+        jdbcTemplate.update("update article_comment set deleted_at = ? where id = 1 or parent_comment_id = 1", NOW.minusDays(2));
+        long liveReplyId = insertReply(1L);
+
+        // When
+        sut.purge();
+
+        // Then
+        assertThat(count("select count(*) from article_comment where id in (1, " + liveReplyId + ")")).isEqualTo(2L);
+        assertThat(count("select count(*) from article_comment where parent_comment_id = 1")).isOne();
+        assertThat(count("select count(*) from article_comment")).isEqualTo(previousArticleCommentCount + 1 - 4); // 추가한 대댓글 1개, 지운 대댓글 4개
+    }
+
+    @DisplayName("보관 기간이 지나지 않았으면, 삭제 표시된 게시글도 지우지 않는다.")
+    @Test
+    void givenRecentlyDeletedArticle_whenPurging_thenKeepsArticle() {
+        // Given
+        jdbcTemplate.update("update article set deleted_at = ? where id = 49", NOW.minusHours(1));
+
+        // When
+        sut.purge();
+
+        // Then
+        assertThat(count("select count(*) from article where id = 49")).isOne();
+        then(hashtagService).shouldHaveNoInteractions();
+    }
+
+
+    private long insertReply(long parentCommentId) {
+        jdbcTemplate.update(
+                """
+                insert into article_comment (article_id, user_id, parent_comment_id, content, created_at, modified_at, created_by, modified_by)
+                select article_id, user_id, id, '대댓글', created_at, modified_at, created_by, modified_by from article_comment where id = ?
+                """,
+                parentCommentId
+        );
+        return count("select max(id) from article_comment");
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+}
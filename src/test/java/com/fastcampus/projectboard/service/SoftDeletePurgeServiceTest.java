@@ -0,0 +1,161 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.PurgeConfig.PurgeProperties;
+import com.fastcampus.projectboard.config.ReadWriteRoutingDataSource;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 삭제 표시된 글 정리")
+@ExtendWith(MockitoExtension.class)
+class SoftDeletePurgeServiceTest {
+
+    @Mock private NamedParameterJdbcTemplate jdbcTemplate;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private ArticleRepository articleRepository;
+    @Mock private HashtagService hashtagService;
+    @Mock private ArticleViewCountService articleViewCountService;
+    @Mock private DataSource dataSource;
+
+    @DisplayName("정해진 시간대가 아니면, 아무것도 지우지 않는다.")
+    @Test
+    void givenOutsideOfWindow_whenPurging_thenDoesNothing() {
+        // Given
+        SoftDeletePurgeService sut = createService(LocalTime.of(12, 0));
+
+        // When
+        sut.purge();
+
+        // Then
+        then(transactionTemplate).shouldHaveNoInteractions();
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("정해진 시간대라도 DB 커넥션이 많이 쓰이고 있으면, 아무것도 지우지 않는다.")
+    @Test
+    void givenBusyConnectionPool_whenPurging_thenDoesNothing() throws Exception {
+        // Given
+        SoftDeletePurgeService sut = createService(LocalTime.of(3, 0));
+        HikariDataSource primary = mock(HikariDataSource.class);
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        given(dataSource.isWrapperFor(ReadWriteRoutingDataSource.class)).willReturn(false);
+        given(dataSource.isWrapperFor(HikariDataSource.class)).willReturn(true);
+        given(dataSource.unwrap(HikariDataSource.class)).willReturn(primary);
+        given(primary.getHikariPoolMXBean()).willReturn(pool);
+        given(pool.getActiveConnections()).willReturn(10);
+
+        // When
+        sut.purge();
+
+        // Then
+        then(transactionTemplate).shouldHaveNoInteractions();
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("정해진 시간대라도 읽기/쓰기 분기를 쓰면, 원본 DB 커넥션 풀이 바쁜지 보고 건너뛴다.")
+    @Test
+    void givenBusyPrimaryPoolBehindRouting_whenPurging_thenDoesNothing() throws Exception {
+        // Given
+        SoftDeletePurgeService sut = createService(LocalTime.of(3, 0));
+        ReadWriteRoutingDataSource routing = mock(ReadWriteRoutingDataSource.class);
+        HikariDataSource primary = mock(HikariDataSource.class);
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        given(dataSource.isWrapperFor(ReadWriteRoutingDataSource.class)).willReturn(true);
+        given(dataSource.unwrap(ReadWriteRoutingDataSource.class)).willReturn(routing);
+        given(routing.getPrimary()).willReturn(primary);
+        given(primary.isWrapperFor(HikariDataSource.class)).willReturn(true);
+        given(primary.unwrap(HikariDataSource.class)).willReturn(primary);
+        given(primary.getHikariPoolMXBean()).willReturn(pool);
+        given(pool.getActiveConnections()).willReturn(10);
+
+        // When
+        sut.purge();
+
+        // Then
+        then(transactionTemplate).shouldHaveNoInteractions();
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("한가한 시간대면, 삭제 표시된 게시글을 댓글, 해시태그 연결과 함께 일괄 삭제하고 쓰이지 않는 해시태그를 정리한다.")
+    @Test
+    void givenDeletedArticlesInWindow_whenPurging_thenDeletesArticlesAndCleansUpHashtags() {
+        // Given
+        SoftDeletePurgeService sut = createService(LocalTime.of(3, 0));
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)
+        );
+        given(jdbcTemplate.queryForList(startsWith("select id from article where"), anyMap(), eq(Long.class))).willReturn(List.of(1L, 2L));
+        given(jdbcTemplate.queryForList(startsWith("select distinct hashtag_id"), anyMap(), eq(Long.class))).willReturn(List.of(11L));
+        given(jdbcTemplate.queryForList(startsWith("select c.id from article_comment"), anyMap(), eq(Long.class))).willReturn(List.of());
+
+        // When
+        sut.purge();
+
+        // Then
+        InOrder inOrder = inOrder(articleRepository, hashtagService);
+        then(articleRepository).should(inOrder).deleteAllWithCommentsByIdIn(List.of(1L, 2L));
+        then(hashtagService).should(inOrder).deleteHashtagWithoutArticles(11L);
+        then(articleViewCountService).should().removeViewCounts(List.of(1L, 2L));
+    }
+
+    @DisplayName("한가한 시간대면, 삭제 표시된 댓글을 대댓글이 없는 것부터 더 지울 댓글이 없을 때까지 지운다.")
+    @Test
+    void givenDeletedArticleCommentsInWindow_whenPurging_thenDeletesLeafCommentsFirst() {
+        // Given
+        SoftDeletePurgeService sut = createService(LocalTime.of(3, 0));
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)
+        );
+        given(jdbcTemplate.queryForList(startsWith("select id from article where"), anyMap(), eq(Long.class))).willReturn(List.of());
+        given(jdbcTemplate.queryForList(startsWith("select c.id from article_comment"), anyMap(), eq(Long.class)))
+                .willReturn(List.of(3L), List.of(2L), List.of());
+
+        // When
+        sut.purge();
+
+        // Then
+        InOrder inOrder = inOrder(jdbcTemplate);
+        then(jdbcTemplate).should(inOrder).update(startsWith("delete from article_comment where id"), eq(Map.of("articleCommentIds", List.of(3L))));
+        then(jdbcTemplate).should(inOrder).update(startsWith("delete from article_comment where id"), eq(Map.of("articleCommentIds", List.of(2L))));
+        then(jdbcTemplate).should(never()).update(startsWith("delete from article_comment where parent_comment_id"), anyMap());
+    }
+
+
+    private SoftDeletePurgeService createService(LocalTime now) {
+        Clock clock = Clock.fixed(LocalDateTime.of(LocalDate.of(2024, 1, 1), now).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+        return new SoftDeletePurgeService(
+                new PurgeProperties(true, Duration.ofSeconds(2), 100, Duration.ofDays(1), LocalTime.of(2, 0), LocalTime.of(6, 0), 2),
+                jdbcTemplate,
+                transactionTemplate,
+                articleRepository,
+                hashtagService,
+                articleViewCountService,
+                dataSource,
+                clock
+        );
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.config.TrendingConfig.TrendingProperties;
+import com.fastcampus.projectboard.domain.event.ArticleCreated;
+import com.fastcampus.projectboard.domain.event.HashtagsChanged;
+import com.fastcampus.projectboard.dto.TrendingHashtagDto;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("비즈니스 로직 - 인기 순위")
+@ExtendWith(MockitoExtension.class)
+class TrendingServiceTest {
+
+    private TrendingService sut;
+
+    @Mock private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new TrendingService(
+                articleRepository,
+                new TrendingProperties(Duration.ofHours(1), 6, 100, 10),
+                Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC)
+        );
+    }
+
+    @DisplayName("게시글을 만들거나 해시태그를 새로 달면, 새로 단 해시태그만 센다.")
+    @Test
+    void givenArticleCreatedAndHashtagsChanged_whenRefreshing_thenCountsOnlyAddedHashtags() {
+        // Given
+        sut.onArticleCreated(new ArticleCreated(1L, Set.of("java")));
+        sut.onHashtagsChanged(new HashtagsChanged(1L, Set.of("java"), Set.of("java")));
+        sut.onHashtagsChanged(new HashtagsChanged(1L, Set.of("java", "spring"), Set.of("spring")));
+
+        // When
+        sut.refresh();
+
+        // Then
+        assertThat(sut.getTrendingHashtags())
+                .extracting(TrendingHashtagDto::hashtagName, TrendingHashtagDto::score)
+                .containsExactlyInAnyOrder(
+                        tuple("java", 1L),
+                        tuple("spring", 1L)
+                );
+    }
+
+    @DisplayName("같은 아웃박스 이벤트가 다시 전달되면, 한 번만 센다.")
+    @Test
+    void givenRedeliveredEvent_whenRefreshing_thenCountsOnce() {
+        // Given
+        HashtagsChanged event = new HashtagsChanged(1L, Set.of("java"), Set.of("java"));
+        Long previous = DomainEventContext.enter(10L);
+        try {
+            sut.onHashtagsChanged(event);
+            sut.onHashtagsChanged(event);
+        } finally {
+            DomainEventContext.restore(previous);
+        }
+
+        // When
+        sut.refresh();
+
+        // Then
+        assertThat(sut.getTrendingHashtags())
+                .extracting(TrendingHashtagDto::score)
+                .containsExactly(1L);
+    }
+
+}
@@ -23,6 +23,8 @@ class UserAccountServiceTest {
     @InjectMocks private UserAccountService sut;
 
     @Mock private UserAccountRepository userAccountRepository;
+    @Mock private AuthorIndexService authorIndexService;
+    @Mock private ChangeLogService changeLogService;
 
     @DisplayName("존재하는 회원 ID를 검색하면, 회원 데이터를 Optional로 반환한다.")
     @Test
@@ -81,6 +83,8 @@ class UserAccountServiceTest {
                 .hasFieldOrPropertyWithValue("createdBy", userAccount.getUserId())
                 .hasFieldOrPropertyWithValue("modifiedBy", userAccount.getUserId());
         then(userAccountRepository).should().save(userAccount);
+        then(authorIndexService).should().index(savedUserAccount.getUserId(), savedUserAccount.getNickname());
+        then(changeLogService).should().recordUserAccount(savedUserAccount.getUserId());
     }
 
 
@@ -0,0 +1,154 @@
+package com.fastcampus.projectboard.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("동시 조회 합치기")
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("같은 키로 동시에 조회하면, 한 번만 조회하고 결과를 함께 받는다.")
+    @Test
+    void givenConcurrentCallsWithSameKey_whenExecuting_thenLoadsOnceAndSharesResult() throws Exception {
+        // Given
+        SingleFlight<String, String> sut = new SingleFlight<>(Duration.ofSeconds(5));
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> sut.execute("article-1", () -> {
+            loadCount.incrementAndGet();
+            await(release);
+            return "article";
+        }));
+        waitUntilLoading(loadCount);
+
+        // When
+        List<Future<String>> followers = IntStream.range(0, 5)
+                .mapToObj(i -> executor.submit(() -> sut.execute("article-1", () -> {
+                    loadCount.incrementAndGet();
+                    return "another";
+                })))
+                .toList();
+        waitUntil(() -> sut.getCoalescedCount() == 5);
+        release.countDown();
+
+        // Then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("article");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("article");
+        }
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @DisplayName("먼저 시작된 조회가 실패하면, 기다리던 요청도 같은 예외를 받는다.")
+    @Test
+    void givenFailingLoad_whenExecuting_thenWaitingCallsReceiveSameException() throws Exception {
+        // Given
+        SingleFlight<String, String> sut = new SingleFlight<>(Duration.ofSeconds(5));
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> sut.execute("article-1", () -> {
+            loadCount.incrementAndGet();
+            await(release);
+            throw new IllegalArgumentException("게시글이 없습니다");
+        }));
+        waitUntilLoading(loadCount);
+
+        // When
+        Future<String> follower = executor.submit(() -> sut.execute("article-1", () -> "another"));
+        waitUntil(() -> sut.getCoalescedCount() == 1);
+        release.countDown();
+
+        // Then
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasRootCauseMessage("게시글이 없습니다");
+    }
+
+    @DisplayName("먼저 시작된 조회가 제한 시간 안에 끝나지 않으면, 기다리던 요청은 직접 조회한다.")
+    @Test
+    void givenSlowLoad_whenWaitingLongerThanTimeout_thenLoadsByItself() throws Exception {
+        // Given
+        SingleFlight<String, String> sut = new SingleFlight<>(Duration.ofMillis(50));
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> sut.execute("article-1", () -> {
+            loadCount.incrementAndGet();
+            await(release);
+            return "article";
+        }));
+        waitUntilLoading(loadCount);
+
+        // When
+        String actual = sut.execute("article-1", () -> "loaded by itself");
+
+        // Then
+        assertThat(actual).isEqualTo("loaded by itself");
+        release.countDown();
+    }
+
+    @DisplayName("다른 키로 조회하면, 먼저 시작된 조회를 기다리지 않는다.")
+    @Test
+    void givenSlowLoadOfOtherKey_whenExecuting_thenDoesNotWait() throws Exception {
+        // Given
+        SingleFlight<String, String> sut = new SingleFlight<>(Duration.ofSeconds(5));
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> sut.execute("article-1", () -> {
+            loadCount.incrementAndGet();
+            await(release);
+            return "article";
+        }));
+        waitUntilLoading(loadCount);
+
+        // When
+        String actual = sut.execute("article-2", () -> "other article");
+
+        // Then
+        assertThat(actual).isEqualTo("other article");
+        assertThat(sut.getCoalescedCount()).isZero();
+        release.countDown();
+    }
+
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntilLoading(AtomicInteger loadCount) throws InterruptedException {
+        waitUntil(() -> loadCount.get() > 0);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.fastcampus.projectboard.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("슬라이딩 윈도 카운터")
+class SlidingWindowCounterTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @DisplayName("윈도 안에서 센 건수로, 많은 순서대로 상위 K 개를 구한다.")
+    @Test
+    void givenCountsWithinWindow_whenQueryingTopK_thenReturnsKeysOrderedByCount() {
+        // Given
+        SlidingWindowCounter<String> sut = new SlidingWindowCounter<>(Duration.ofMinutes(10), 10, 100, clock);
+        sut.add("java", 3);
+        clock.advance(Duration.ofMinutes(2));
+        sut.add("spring", 5);
+        sut.increment("jpa");
+
+        // When
+        var top = sut.topK(2);
+
+        // Then
+        assertThat(top).containsExactly(Map.entry("spring", 5L), Map.entry("java", 3L));
+    }
+
+    @DisplayName("윈도가 지나면, 오래된 건수는 집계에서 빠진다.")
+    @Test
+    void givenCountsOlderThanWindow_whenQueryingTopK_thenExcludesExpiredCounts() {
+        // Given
+        SlidingWindowCounter<String> sut = new SlidingWindowCounter<>(Duration.ofMinutes(10), 10, 100, clock);
+        sut.add("java", 10);
+        clock.advance(Duration.ofMinutes(5));
+        sut.add("spring", 1);
+        clock.advance(Duration.ofMinutes(6));
+
+        // When
+        var top = sut.topK(10);
+
+        // Then
+        assertThat(top).containsExactly(Map.entry("spring", 1L));
+    }
+
+    @DisplayName("버킷의 키 수가 상한에 닿으면, 새 키는 그 버킷에서 세지 않는다.")
+    @Test
+    void givenFullBucket_whenCountingNewKey_thenIgnoresNewKey() {
+        // Given
+        SlidingWindowCounter<String> sut = new SlidingWindowCounter<>(Duration.ofMinutes(10), 10, 2, clock);
+        sut.increment("java");
+        sut.increment("spring");
+
+        // When
+        sut.increment("jpa");
+        sut.increment("java");
+
+        // Then
+        assertThat(sut.topK(10)).containsExactly(Map.entry("java", 2L), Map.entry("spring", 1L));
+    }
+
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+}
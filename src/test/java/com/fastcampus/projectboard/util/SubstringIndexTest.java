@@ -0,0 +1,48 @@
+package com.fastcampus.projectboard.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("부분 문자열 색인")
+class SubstringIndexTest {
+
+    private final SubstringIndex<String> sut = new SubstringIndex<>();
+
+    @DisplayName("검색어가 포함된 값의 키를, 길이와 대소문자에 상관없이 찾는다.")
+    @Test
+    void givenIndexedValues_whenFindingContaining_thenReturnsMatchingKeys() {
+        // Given
+        sut.put("uno", "Uno");
+        sut.put("uno2", "Uno2");
+        sut.put("duo", "DuoUnoTrio");
+        sut.put("kim", "김철수");
+
+        // When & Then
+        assertThat(sut.findContaining("n")).isEqualTo(Set.of("uno", "uno2", "duo"));
+        assertThat(sut.findContaining("UNO")).isEqualTo(Set.of("uno", "uno2", "duo"));
+        assertThat(sut.findContaining("ounotr")).isEqualTo(Set.of("duo"));
+        assertThat(sut.findContaining("철수")).isEqualTo(Set.of("kim"));
+        assertThat(sut.findContaining("unox")).isEmpty();
+        assertThat(sut.findContaining("")).isEmpty();
+    }
+
+    @DisplayName("같은 키로 다시 색인하면, 이전 값으로는 더 이상 찾을 수 없다.")
+    @Test
+    void givenReindexedKey_whenFindingByPreviousValue_thenReturnsNothing() {
+        // Given
+        sut.put("uno", "Uno");
+
+        // When
+        sut.put("uno", "Banana");
+
+        // Then
+        assertThat(sut.findContaining("uno")).isEmpty();
+        assertThat(sut.findContaining("nan")).isEqualTo(Set.of("uno"));
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+}